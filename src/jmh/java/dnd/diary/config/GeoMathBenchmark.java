@@ -0,0 +1,131 @@
+package dnd.diary.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// GeoMath 와 이전 구현 비교 - legacy 는 기존 MissionService.distance(코사인 법칙), GeometryUtil.calculate(Double 박싱)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoMathBenchmark {
+
+    // 서울 시청 기준 반경 약 5km 안의 후보 좌표 수
+    @Param({"16", "1024"})
+    private int candidateCount;
+
+    private final double latitude = 37.5666;
+    private final double longitude = 126.9784;
+    private double[] latitudes;
+    private double[] longitudes;
+    private double[] distances;
+    private boolean[] within;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        latitudes = new double[candidateCount];
+        longitudes = new double[candidateCount];
+        for (int i = 0; i < candidateCount; i++) {
+            latitudes[i] = latitude + random.nextDouble(-0.045, 0.045);
+            longitudes[i] = longitude + random.nextDouble(-0.057, 0.057);
+        }
+        distances = new double[candidateCount];
+        within = new boolean[candidateCount];
+    }
+
+    @Benchmark
+    public void legacyLawOfCosines(Blackhole blackhole) {
+        for (int i = 0; i < candidateCount; i++) {
+            blackhole.consume(legacyDistance(latitude, longitude, latitudes[i], longitudes[i]));
+        }
+    }
+
+    @Benchmark
+    public void haversine(Blackhole blackhole) {
+        for (int i = 0; i < candidateCount; i++) {
+            blackhole.consume(GeoMath.haversine(latitude, longitude, latitudes[i], longitudes[i]));
+        }
+    }
+
+    @Benchmark
+    public void equirectangular(Blackhole blackhole) {
+        for (int i = 0; i < candidateCount; i++) {
+            blackhole.consume(GeoMath.equirectangular(latitude, longitude, latitudes[i], longitudes[i]));
+        }
+    }
+
+    @Benchmark
+    public double[] haversineBatch() {
+        GeoMath.haversine(latitude, longitude, latitudes, longitudes, distances);
+        return distances;
+    }
+
+    @Benchmark
+    public int withinRadiusBatch() {
+        return GeoMath.withinRadius(latitude, longitude, latitudes, longitudes, 200.0, within);
+    }
+
+    @Benchmark
+    public void legacyBoxedDestination(Blackhole blackhole) {
+        for (int i = 0; i < candidateCount; i++) {
+            blackhole.consume(legacyCalculate(latitudes[i], longitudes[i], 0.2, 45.0));
+        }
+    }
+
+    @Benchmark
+    public void destination(Blackhole blackhole) {
+        for (int i = 0; i < candidateCount; i++) {
+            blackhole.consume(GeoMath.destination(latitudes[i], longitudes[i], 200.0, 45.0));
+        }
+    }
+
+    // 기존 MissionService.distance
+    private static double legacyDistance(double lat1, double lon1, double lat2, double lon2) {
+        double theta = lon1 - lon2;
+        double dist = Math.sin(deg2rad(lat1)) * Math.sin(deg2rad(lat2))
+                + Math.cos(deg2rad(lat1)) * Math.cos(deg2rad(lat2)) * Math.cos(deg2rad(theta));
+        dist = Math.acos(dist);
+        dist = rad2deg(dist);
+        return dist * 60 * 1.1515 * 1609.344;
+    }
+
+    private static double deg2rad(double deg) {
+        return deg * Math.PI / 180.0;
+    }
+
+    private static double rad2deg(double rad) {
+        return rad * 180 / Math.PI;
+    }
+
+    // 기존 GeometryUtil.calculate - 거리 단위 km, 모든 연산이 Double
+    private static Double[] legacyCalculate(Double baseLatitude, Double baseLongitude, Double distance, Double bearing) {
+        Double radianLatitude = baseLatitude * Math.PI / 180.0;
+        Double radianLongitude = baseLongitude * Math.PI / 180.0;
+        Double radianAngle = bearing * Math.PI / 180.0;
+        Double distanceRadius = distance / 6371.01;
+
+        Double latitude = Math.asin(Math.sin(radianLatitude) * Math.cos(distanceRadius)
+                + Math.cos(radianLatitude) * Math.sin(distanceRadius) * Math.cos(radianAngle));
+        Double longitude = radianLongitude + Math.atan2(Math.sin(radianAngle) * Math.sin(distanceRadius)
+                * Math.cos(radianLatitude), Math.cos(distanceRadius) - Math.sin(radianLatitude) * Math.sin(latitude));
+
+        longitude = (longitude + 540) % 360 - 180;
+        return new Double[]{latitude * 180.0 / Math.PI, longitude * 180.0 / Math.PI};
+    }
+}
@@ -0,0 +1,91 @@
+package dnd.diary.config.cache;
+
+import dnd.diary.dto.content.ContentDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// 게시물 상세 캐시 값(ContentDto.detailDto) 직렬화 비교 - BASELINE 은 기존 GenericJackson2JsonRedisSerializer
+// 저장 크기는 Setup 에서 출력
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheSerializerBenchmark {
+
+    @Param({"BASELINE", "JSON", "SMILE", "CBOR"})
+    private String serializer;
+
+    // 압축 기준 크기(byte), -1 이면 압축하지 않음
+    @Param({"-1", "512"})
+    private int compressionThreshold;
+
+    private RedisSerializer<Object> redisSerializer;
+    private ContentDto.detailDto detail;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        redisSerializer = serializer.equals("BASELINE")
+                ? new GenericJackson2JsonRedisSerializer()
+                : new CompressingRedisSerializer(CacheSerializer.valueOf(serializer).create(), compressionThreshold);
+        detail = sampleDetail();
+        serialized = redisSerializer.serialize(detail);
+        System.out.printf("%n[%s, compressionThreshold=%d] %d bytes%n", serializer, compressionThreshold, serialized.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return redisSerializer.serialize(detail);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return redisSerializer.deserialize(serialized);
+    }
+
+    private static ContentDto.detailDto sampleDetail() {
+        List<ContentDto.ImageResponseDto> images = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> ContentDto.ImageResponseDto.builder()
+                        .id((long) i)
+                        .imageName("6f6b761a-8481-45b6-a6cc-9b48ff73c67" + i + ".jpg")
+                        .imageUrl("https://dnd-diary-image-bucket.s3.ap-northeast-2.amazonaws.com/6f6b761a-8481-45b6-a6cc-9b48ff73c67" + i + "_large.jpg")
+                        .contentId(1L)
+                        .build())
+                .toList();
+
+        return ContentDto.detailDto.builder()
+                .id(1L)
+                .userId(10L)
+                .groupId(100L)
+                .groupName("주말 등산 모임")
+                .userName("산책하는다람쥐")
+                .profileImageUrl("https://dnd-diary-image-bucket.s3.ap-northeast-2.amazonaws.com/profile.png")
+                .content("오늘은 북한산 백운대까지 다녀왔습니다. 날씨가 맑아서 정상에서 서울 시내가 한눈에 보였어요. ".repeat(5))
+                .latitude(37.6586)
+                .longitude(126.9779)
+                .location("서울특별시 강북구 우이동 북한산")
+                .views(1234L)
+                .contentLink("test")
+                .deletedYn(false)
+                .createAt("22.08.20")
+                .collect(images)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package dnd.diary.config;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+// MySQL FULLTEXT(ngram) BOOLEAN MODE 검색어 생성
+public class FullTextQuery {
+
+    // ngram_token_size 기본값 - 이보다 짧은 검색어는 FULLTEXT 인덱스로 찾을 수 없음
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    private FullTextQuery() {
+    }
+
+    // 모든 단어가 토큰 길이 이상일 때만 FULLTEXT 검색 - 아니면 LIKE 검색으로 대체
+    public static boolean isSearchable(String keyword) {
+        String[] words = split(keyword);
+        return words.length > 0 && Arrays.stream(words).allMatch(word -> word.length() >= NGRAM_TOKEN_SIZE);
+    }
+
+    // 단어마다 +"단어" - 모든 단어를 포함하고, 단어 내 글자 순서가 일치하는 결과만
+    public static String toBooleanQuery(String keyword) {
+        return Arrays.stream(split(keyword))
+                .map(word -> "+\"" + word + "\"")
+                .collect(Collectors.joining(" "));
+    }
+
+    private static String[] split(String keyword) {
+        if (keyword == null) {
+            return new String[0];
+        }
+        // 구문 검색을 깨뜨리는 큰따옴표 제거
+        String trimmed = keyword.replace("\"", " ").trim();
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+    }
+}
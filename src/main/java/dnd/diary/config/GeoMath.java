@@ -0,0 +1,96 @@
+package dnd.diary.config;
+
+// 좌표 거리 계산 - 위도/경도는 도(degree), 거리는 미터 단위의 primitive 값만 사용
+public final class GeoMath {
+
+    public static final double EARTH_RADIUS_METER = 6371008.8;
+
+    private static final double DEGREE_TO_RADIAN = Math.PI / 180.0;
+    private static final double RADIAN_TO_DEGREE = 180.0 / Math.PI;
+
+    private GeoMath() {
+    }
+
+    // 하버사인 공식 - 짧은 거리에서도 오차가 작음
+    public static double haversine(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double sinLatitude = Math.sin((latitude2 - latitude1) * DEGREE_TO_RADIAN * 0.5);
+        double sinLongitude = Math.sin((longitude2 - longitude1) * DEGREE_TO_RADIAN * 0.5);
+        double a = sinLatitude * sinLatitude
+                + Math.cos(latitude1 * DEGREE_TO_RADIAN) * Math.cos(latitude2 * DEGREE_TO_RADIAN) * sinLongitude * sinLongitude;
+        return 2.0 * EARTH_RADIUS_METER * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // 평면 근사 - 수 km 이내에서는 하버사인과 거의 같고 삼각함수 호출이 1회
+    public static double equirectangular(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double x = (longitude2 - longitude1) * DEGREE_TO_RADIAN * Math.cos((latitude1 + latitude2) * 0.5 * DEGREE_TO_RADIAN);
+        double y = (latitude2 - latitude1) * DEGREE_TO_RADIAN;
+        return EARTH_RADIUS_METER * Math.sqrt(x * x + y * y);
+    }
+
+    // 여러 후보 좌표까지의 거리를 한 번에 계산 - 기준 좌표의 삼각함수 값은 한 번만 계산
+    public static void haversine(
+            double latitude, double longitude, double[] latitudes, double[] longitudes, double[] distances
+    ) {
+        double cosLatitude = Math.cos(latitude * DEGREE_TO_RADIAN);
+        for (int i = 0; i < latitudes.length; i++) {
+            double sinLatitude = Math.sin((latitudes[i] - latitude) * DEGREE_TO_RADIAN * 0.5);
+            double sinLongitude = Math.sin((longitudes[i] - longitude) * DEGREE_TO_RADIAN * 0.5);
+            double a = sinLatitude * sinLatitude
+                    + cosLatitude * Math.cos(latitudes[i] * DEGREE_TO_RADIAN) * sinLongitude * sinLongitude;
+            distances[i] = 2.0 * EARTH_RADIUS_METER * Math.asin(Math.min(1.0, Math.sqrt(a)));
+        }
+    }
+
+    // 반경 이내 후보의 개수 반환, within[i] 에 포함 여부 기록
+    public static int withinRadius(
+            double latitude, double longitude, double[] latitudes, double[] longitudes, double radiusMeter, boolean[] within
+    ) {
+        double[] distances = new double[latitudes.length];
+        haversine(latitude, longitude, latitudes, longitudes, distances);
+
+        int count = 0;
+        for (int i = 0; i < distances.length; i++) {
+            within[i] = distances[i] <= radiusMeter;
+            if (within[i]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 중심 좌표에서 반경을 덮는 범위 - {최소 위도, 최소 경도, 최대 위도, 최대 경도}
+    public static double[] boundingBox(double latitude, double longitude, double radiusMeter) {
+        double latitudeDelta = radiusMeter / EARTH_RADIUS_METER * RADIAN_TO_DEGREE;
+        double longitudeDelta = latitudeDelta / Math.max(Math.cos(latitude * DEGREE_TO_RADIAN), 0.01);
+        return new double[]{
+                Math.max(-90.0, latitude - latitudeDelta),
+                longitude - longitudeDelta,
+                Math.min(90.0, latitude + latitudeDelta),
+                longitude + longitudeDelta
+        };
+    }
+
+    // 시작 좌표에서 방위각(도) 방향으로 거리만큼 이동한 좌표 - {위도, 경도}
+    public static double[] destination(double latitude, double longitude, double distanceMeter, double bearing) {
+        double radianLatitude = latitude * DEGREE_TO_RADIAN;
+        double radianLongitude = longitude * DEGREE_TO_RADIAN;
+        double radianBearing = bearing * DEGREE_TO_RADIAN;
+        double angularDistance = distanceMeter / EARTH_RADIUS_METER;
+
+        double destinationLatitude = Math.asin(Math.sin(radianLatitude) * Math.cos(angularDistance)
+                + Math.cos(radianLatitude) * Math.sin(angularDistance) * Math.cos(radianBearing));
+        double destinationLongitude = radianLongitude + Math.atan2(
+                Math.sin(radianBearing) * Math.sin(angularDistance) * Math.cos(radianLatitude),
+                Math.cos(angularDistance) - Math.sin(radianLatitude) * Math.sin(destinationLatitude)
+        );
+
+        return new double[]{
+                destinationLatitude * RADIAN_TO_DEGREE,
+                normalizeLongitude(destinationLongitude * RADIAN_TO_DEGREE)
+        };
+    }
+
+    public static double normalizeLongitude(double longitude) {
+        return (longitude + 540.0) % 360.0 - 180.0;
+    }
+}
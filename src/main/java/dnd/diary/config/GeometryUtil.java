@@ -1,40 +1,38 @@
 package dnd.diary.config;
 
-public class GeometryUtil {
-
-    public static Location calculate(Double baseLatitude, Double baseLongitude, Double distance,
-                                     Double bearing) {
-        Double radianLatitude = toRadian(baseLatitude);
-        Double radianLongitude = toRadian(baseLongitude);
-        Double radianAngle = toRadian(bearing);
-        Double distanceRadius = distance / 6371.01;
-
-        Double latitude = Math.asin(sin(radianLatitude) * cos(distanceRadius) +
-                cos(radianLatitude) * sin(distanceRadius) * cos(radianAngle));
-        Double longitude = radianLongitude + Math.atan2(sin(radianAngle) * sin(distanceRadius) *
-                cos(radianLatitude), cos(distanceRadius) - sin(radianLatitude) * sin(latitude));
-
-        longitude = normalizeLongitude(longitude);
-        return new Location(toDegree(latitude), toDegree(longitude));
-    }
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
 
-    private static Double toRadian(Double coordinate) {
-        return coordinate * Math.PI / 180.0;
-    }
+public class GeometryUtil {
 
-    private static Double toDegree(Double coordinate) {
-        return coordinate * 180.0 / Math.PI;
-    }
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
 
-    private static Double sin(Double coordinate) {
-        return Math.sin(coordinate);
-    }
+    // SPATIAL 인덱스 컬럼은 NOT NULL 이어야 하므로 좌표가 없는 경우 지도 범위에 포함될 수 없는 좌표로 저장
+    private static final double NO_LOCATION = -1000.0;
 
-    private static Double cos(Double coordinate) {
-        return Math.cos(coordinate);
+    // 기존 미션 좌표와 같이 x = 위도, y = 경도
+    public static Point toPoint(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return GEOMETRY_FACTORY.createPoint(new Coordinate(NO_LOCATION, NO_LOCATION));
+        }
+        return GEOMETRY_FACTORY.createPoint(new Coordinate(latitude, longitude));
     }
 
-    private static Double normalizeLongitude(Double longitude) {
-        return (longitude + 540) % 360 - 180;
+    // 지도 화면 범위를 MBRContains 에 사용할 POLYGON WKT 로 변환
+    public static String toBoundingBox(Double startLatitude, Double startLongitude, Double endLatitude, Double endLongitude) {
+        double minLatitude = Math.min(startLatitude, endLatitude);
+        double maxLatitude = Math.max(startLatitude, endLatitude);
+        double minLongitude = Math.min(startLongitude, endLongitude);
+        double maxLongitude = Math.max(startLongitude, endLongitude);
+
+        return String.format(
+                "POLYGON((%s %s, %s %s, %s %s, %s %s, %s %s))",
+                minLatitude, minLongitude,
+                maxLatitude, minLongitude,
+                maxLatitude, maxLongitude,
+                minLatitude, maxLongitude,
+                minLatitude, minLongitude
+        );
     }
-}
\ No newline at end of file
+}
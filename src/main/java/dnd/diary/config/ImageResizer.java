@@ -0,0 +1,153 @@
+package dnd.diary.config;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.imaging.ImageProcessingException;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.MetadataException;
+import com.drew.metadata.exif.ExifIFD0Directory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Optional;
+
+// 업로드 이미지 리사이즈 - EXIF 방향대로 회전한 뒤 메타데이터 없는 JPEG로 다시 인코딩
+public class ImageResizer {
+
+    private static final float JPEG_QUALITY = 0.85f;
+    // 디코딩하면 픽셀당 4byte 이상 차지 - 이보다 큰 이미지는 리사이즈하지 않고 원본만 사용
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    private ImageResizer() {
+    }
+
+    // ImageIO가 읽을 수 없는 형식(HEIC, WebP 등), 손상된 파일, 픽셀 수가 너무 큰 이미지면 빈 값
+    public static Optional<BufferedImage> read(byte[] bytes) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = input == null ? Collections.emptyIterator() : ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // 헤더의 크기만 먼저 확인 - 디코딩 전에 걸러야 메모리를 잡지 않음
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    return Optional.empty();
+                }
+                return Optional.of(orient(reader.read(0), readOrientation(bytes)));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            // 손상된 파일은 디코더에 따라 IllegalArgumentException, ArrayIndexOutOfBoundsException 등으로 실패
+            return Optional.empty();
+        }
+    }
+
+    // 가로 maxWidth 이하로 축소, 원본이 더 작으면 크기 유지
+    public static byte[] toJpeg(BufferedImage image, int maxWidth) {
+        int width = Math.min(image.getWidth(), maxWidth);
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+        return writeJpeg(scale(image, width, height));
+    }
+
+    private static int readOrientation(byte[] bytes) {
+        try {
+            Metadata metadata = ImageMetadataReader.readMetadata(new ByteArrayInputStream(bytes));
+            ExifIFD0Directory directory = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
+            if (directory != null && directory.containsTag(ExifIFD0Directory.TAG_ORIENTATION)) {
+                return directory.getInt(ExifIFD0Directory.TAG_ORIENTATION);
+            }
+        } catch (ImageProcessingException | MetadataException | IOException | RuntimeException ignored) {
+        }
+        return 1;
+    }
+
+    // EXIF Orientation 2~8 을 정방향으로 변환, 투명 영역은 흰 배경으로 채움
+    private static BufferedImage orient(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);    // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);   // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);    // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);     // 대각선 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);    // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);   // 반대 대각선 반전
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);    // 반시계 방향 90도
+            default -> new AffineTransform();
+        };
+        boolean swap = orientation >= 5 && orientation <= 8;
+
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, oriented.getWidth(), oriented.getHeight());
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 목표 크기로 맞춤
+    private static BufferedImage scale(BufferedImage image, int width, int height) {
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= width && current.getHeight() / 2 >= height) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        if (current.getWidth() == width && current.getHeight() == height) {
+            return current;
+        }
+        return draw(current, width, height);
+    }
+
+    private static BufferedImage draw(BufferedImage image, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    // 메타데이터 없이 픽셀만 기록 - 원본 EXIF(위치 정보 등)는 남지 않음
+    private static byte[] writeJpeg(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
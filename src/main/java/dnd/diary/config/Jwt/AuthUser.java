@@ -0,0 +1,19 @@
+package dnd.diary.config.Jwt;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+// 토큰 claim 으로 만든 인증 유저 - 요청마다 유저를 다시 조회하지 않도록 유저 ID 를 함께 보관
+@Getter
+public class AuthUser extends User {
+
+    private final Long userId;   // 유저 ID 가 없는 이전 토큰은 null
+
+    public AuthUser(Long userId, String email, String password, Collection<? extends GrantedAuthority> authorities) {
+        super(email, password, authorities);
+        this.userId = userId;
+    }
+}
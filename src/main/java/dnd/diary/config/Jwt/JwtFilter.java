@@ -1,6 +1,5 @@
 package dnd.diary.config.Jwt;
 
-import dnd.diary.config.RedisDao;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -18,12 +17,12 @@ import java.io.IOException;
 @Slf4j
 @RequiredArgsConstructor
 public class JwtFilter extends GenericFilterBean {
-    private final RedisDao redisDao;
+    private final TokenBlacklist tokenBlacklist;
     private final TokenProvider tokenProvider;
 
-    public JwtFilter(TokenProvider tokenProvider, RedisDao redisDao) {
+    public JwtFilter(TokenProvider tokenProvider, TokenBlacklist tokenBlacklist) {
         this.tokenProvider = tokenProvider;
-        this.redisDao = redisDao;
+        this.tokenBlacklist = tokenBlacklist;
     }
 
     @Override
@@ -39,7 +38,7 @@ public class JwtFilter extends GenericFilterBean {
         String requestURI = httpServletRequest.getRequestURI();
 
         if (jwt != null && tokenProvider.validateToken(jwt)) {
-            if (redisDao.getValues(jwt) == null) {
+            if (!tokenBlacklist.isRevoked(jwt)) {
                 Authentication authentication = tokenProvider.getAuthentication(jwt);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 log.info("Security Context에 '{}' 인증 정보를 저장했습니다, uri: {}", authentication.getName(), requestURI);
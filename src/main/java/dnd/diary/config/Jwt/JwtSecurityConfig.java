@@ -1,6 +1,5 @@
 package dnd.diary.config.Jwt;
 
-import dnd.diary.config.RedisDao;
 import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.DefaultSecurityFilterChain;
@@ -10,16 +9,16 @@ public class JwtSecurityConfig extends SecurityConfigurerAdapter<DefaultSecurity
 
     private final TokenProvider tokenProvider;
 
-    private final RedisDao redisDao;
+    private final TokenBlacklist tokenBlacklist;
 
-    public JwtSecurityConfig(TokenProvider tokenProvider, RedisDao redisDao) {
+    public JwtSecurityConfig(TokenProvider tokenProvider, TokenBlacklist tokenBlacklist) {
         this.tokenProvider = tokenProvider;
-        this.redisDao = redisDao;
+        this.tokenBlacklist = tokenBlacklist;
     }
 
     @Override
     public void configure(HttpSecurity http) {
-        JwtFilter customFilter = new JwtFilter(tokenProvider,redisDao);
+        JwtFilter customFilter = new JwtFilter(tokenProvider, tokenBlacklist);
         http.addFilterBefore(customFilter, UsernamePasswordAuthenticationFilter.class);
     }
 }
@@ -31,12 +31,13 @@ public class JwtUserService implements UserDetailsService {
                 .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
     }
 
-    private org.springframework.security.core.userdetails.User createUser(User user) {
+    private AuthUser createUser(User user) {
 
         List<GrantedAuthority> grantedAuthorities = user.getAuthorities().stream()
                 .map(authority -> new SimpleGrantedAuthority(authority.getAuthorityName()))
                 .collect(Collectors.toList());
-        return new org.springframework.security.core.userdetails.User(user.getEmail(),
+        return new AuthUser(user.getId(),
+                user.getEmail(),
                 user.getPassword(),
                 grantedAuthorities
         );
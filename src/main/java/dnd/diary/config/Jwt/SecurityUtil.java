@@ -10,8 +10,6 @@ import java.util.Optional;
 @Slf4j
 public class SecurityUtil {
 
-    private static String email;
-
     private SecurityUtil() {
     }
 
@@ -23,6 +21,7 @@ public class SecurityUtil {
             return Optional.empty();
         }
 
+        String email = null;
         if (authentication.getPrincipal() instanceof UserDetails springSecurityUser) {
             email = springSecurityUser.getUsername();
         } else if (authentication.getPrincipal() instanceof String) {
@@ -31,5 +30,22 @@ public class SecurityUtil {
 
         return Optional.ofNullable(email);
     }
-}
 
+    // 토큰에 담긴 유저 ID - 유저 ID 가 없는 이전 토큰이면 empty
+    public static Optional<Long> getCurrentUserId() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null) {
+            log.debug("Security Context 인증 정보가 없습니다.");
+            return Optional.empty();
+        }
+        return authentication.getPrincipal() instanceof UserDetails userDetails ? getUserId(userDetails) : Optional.empty();
+    }
+
+    public static Optional<Long> getUserId(UserDetails userDetails) {
+        if (userDetails instanceof AuthUser authUser) {
+            return Optional.ofNullable(authUser.getUserId());
+        }
+        return Optional.empty();
+    }
+}
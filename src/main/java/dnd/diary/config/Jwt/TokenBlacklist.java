@@ -0,0 +1,187 @@
+package dnd.diary.config.Jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dnd.diary.config.BloomFilter;
+import dnd.diary.config.RedisDao;
+import dnd.diary.config.RedisKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+// 로그아웃된 access token 확인
+// 로그아웃된 토큰 ID(jti) 를 Bloom filter 로 보관해 대부분의 요청은 Redis 조회 없이 통과시키고, filter 에 걸린 경우만 Redis 로 확인
+// 다른 서버의 로그아웃은 pub/sub 으로 받아 반영하고, 만료된 토큰 ID 를 비우기 위해 주기적으로 Redis 에서 다시 생성
+// 구독이 끊긴 동안의 로그아웃은 받지 못하므로 구독이 다시 연결되어 filter 를 새로 만들 때까지는 Redis 로 확인
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+
+    public static final String CHANNEL = "token:revoked";
+    private static final String REVOKED_TOKEN_PATTERN = RedisKey.revokedToken("*");
+    private static final long MAXIMUM_SIZE = 10_000;
+
+    private final RedisDao redisDao;
+    private final TokenProvider tokenProvider;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+
+    private volatile BloomFilter revokedTokenIds;
+    private volatile BloomFilter rebuildingTokenIds;   // 다시 생성하는 동안 들어온 로그아웃도 새 filter 에 반영
+    private volatile boolean ready = false;   // filter 생성 전, 구독이 끊긴 뒤에는 항상 Redis 로 확인
+
+    // Redis 확인 결과 - 로그아웃된 토큰은 만료될 때까지 보관, 유효한 토큰은 다른 서버의 로그아웃이 반영되도록 짧게 보관
+    private final Cache<String, Boolean> revokedTokens;
+    private final Cache<String, Boolean> validTokens;
+
+    public TokenBlacklist(
+            RedisDao redisDao,
+            TokenProvider tokenProvider,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds,
+            @Value("${jwt.blacklist.valid-cache-seconds:5}") long validCacheSeconds,
+            @Value("${jwt.blacklist.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.blacklist.false-positive-probability:0.01}") double falsePositiveProbability
+    ) {
+        this.redisDao = redisDao;
+        this.tokenProvider = tokenProvider;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.revokedTokenIds = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        this.revokedTokens = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(Duration.ofSeconds(tokenValidityInSeconds))
+                .build();
+        this.validTokens = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(Duration.ofSeconds(validCacheSeconds))
+                .build();
+    }
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 리스너 컨테이너가 시작되어 구독 중인 상태에서 처음 생성 - 생성 중 들어온 로그아웃을 놓치지 않도록
+    @EventListener(ApplicationReadyEvent.class)
+    public void initFilter() {
+        rebuild();
+    }
+
+    // 구독이 끊기면 Redis 조회로 전환하고, 다시 연결되면 그동안의 로그아웃을 반영해 filter 를 새로 생성
+    @Scheduled(fixedDelayString = "${jwt.blacklist.subscription-check-delay-ms:1000}")
+    public void checkSubscription() {
+        if (!redisMessageListenerContainer.isListening()) {
+            if (ready) {
+                ready = false;
+                log.warn("[토큰 블랙리스트] 구독 끊김 - 다시 연결될 때까지 Redis 로 확인");
+            }
+            return;
+        }
+        if (!ready) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${jwt.blacklist.rebuild-delay-ms:600000}",
+            initialDelayString = "${jwt.blacklist.rebuild-delay-ms:600000}"
+    )
+    public synchronized void rebuild() {
+        // 구독 중이 아니면 생성 중 로그아웃을 받지 못하므로 Redis 조회 유지
+        if (!redisMessageListenerContainer.isListening()) {
+            ready = false;
+            return;
+        }
+        try {
+            BloomFilter newTokenIds = new BloomFilter(expectedInsertions, falsePositiveProbability);
+            rebuildingTokenIds = newTokenIds;
+
+            List<String> revokedTokenKeys = redisDao.scanKeys(REVOKED_TOKEN_PATTERN);
+            int prefixLength = RedisKey.revokedToken("").length();
+            revokedTokenKeys.forEach(key -> newTokenIds.put(key.substring(prefixLength)));
+
+            revokedTokenIds = newTokenIds;
+            ready = redisMessageListenerContainer.isListening();
+            log.info("[토큰 블랙리스트] 로그아웃된 토큰 수 : {}", revokedTokenKeys.size());
+        } catch (Exception e) {
+            log.warn("[토큰 블랙리스트] filter 생성 실패 - 기존 filter 유지", e);
+        } finally {
+            rebuildingTokenIds = null;
+        }
+    }
+
+    public boolean isRevoked(String token) {
+        String tokenId = tokenProvider.getTokenId(token);
+        if (tokenId == null) {
+            // jti 가 없는 이전 토큰은 토큰 자체를 키로 저장
+            return isRevokedInRedis(token);
+        }
+        String key = RedisKey.revokedToken(tokenId);
+        // 이 서버에서 로그아웃한 토큰은 filter 와 관계없이 바로 차단
+        if (revokedTokens.getIfPresent(key) != null) {
+            return true;
+        }
+        if (ready && !revokedTokenIds.mightContain(tokenId)) {
+            return false;
+        }
+        return isRevokedInRedis(key);
+    }
+
+    // 로그아웃 - 호출한 쪽의 파이프라인에 Redis 저장과 다른 서버 알림을 추가하고, 이 서버에는 바로 반영
+    public void revoke(RedisOperations<String, String> operations, String token, Duration expiration) {
+        String tokenId = tokenProvider.getTokenId(token);
+        String key = tokenId == null ? token : RedisKey.revokedToken(tokenId);
+
+        operations.opsForValue().set(key, "logout", expiration);
+        if (tokenId != null) {
+            operations.convertAndSend(CHANNEL, tokenId);
+            addRevokedTokenId(tokenId);
+        }
+        validTokens.invalidate(key);
+        revokedTokens.put(key, Boolean.TRUE);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addRevokedTokenId(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 생성 중인 filter 를 먼저 확인하고 넣은 뒤 현재 filter 에 넣음
+    // rebuild 는 생성 중 filter 를 먼저 지정하고 교체 후에 비우므로, 생성 중 filter 가 없었다면 현재 filter 는 교체 전이거나 교체가 끝난 filter
+    private void addRevokedTokenId(String tokenId) {
+        BloomFilter rebuilding = rebuildingTokenIds;
+        if (rebuilding != null) {
+            rebuilding.put(tokenId);
+        }
+        revokedTokenIds.put(tokenId);
+    }
+
+    private boolean isRevokedInRedis(String key) {
+        if (revokedTokens.getIfPresent(key) != null) {
+            return true;
+        }
+        if (validTokens.getIfPresent(key) != null) {
+            return false;
+        }
+        boolean revoked = redisDao.hasKey(key);
+        (revoked ? revokedTokens : validTokens).put(key, Boolean.TRUE);
+        return revoked;
+    }
+}
@@ -1,15 +0,0 @@
-package dnd.diary.config;
-
-import lombok.Getter;
-
-@Getter
-public class Location {
-
-    private Double latitude;
-    private Double longitude;
-
-    public Location(Double latitude, Double longitude) {
-        this.latitude = latitude;
-        this.longitude = longitude;
-    }
-}
\ No newline at end of file
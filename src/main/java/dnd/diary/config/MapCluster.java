@@ -0,0 +1,57 @@
+package dnd.diary.config;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// 지도 확대 수준에 맞춘 격자 단위로 좌표를 묶은 클러스터
+@Getter
+public class MapCluster<T> {
+
+    private static final int MIN_ZOOM = 0;
+    private static final int MAX_ZOOM = 21;
+    // 타일 한 장을 가로/세로 4칸으로 나눈 크기를 격자 한 칸으로 사용
+    private static final int CELLS_PER_TILE = 4;
+
+    private double latitude;    // 클러스터에 포함된 좌표의 평균
+    private double longitude;
+    private final List<T> items = new ArrayList<>();
+
+    private void add(T item, double itemLatitude, double itemLongitude) {
+        int size = items.size();
+        this.latitude = (latitude * size + itemLatitude) / (size + 1);
+        this.longitude = (longitude * size + itemLongitude) / (size + 1);
+        items.add(item);
+    }
+
+    public int getCount() {
+        return items.size();
+    }
+
+    // zoom 은 웹 지도 타일 기준 확대 수준 (0 ~ 21, 없으면 가장 작은 격자), 좌표가 없는 항목은 제외
+    public static <T> List<MapCluster<T>> cluster(
+            List<T> items, Function<T, Double> latitudeOf, Function<T, Double> longitudeOf, Integer zoom
+    ) {
+        int clampedZoom = zoom == null ? MAX_ZOOM : Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+        double cellSize = 360.0 / (1L << clampedZoom) / CELLS_PER_TILE;
+
+        Map<Long, MapCluster<T>> cells = new LinkedHashMap<>();
+        for (T item : items) {
+            Double itemLatitude = latitudeOf.apply(item);
+            Double itemLongitude = longitudeOf.apply(item);
+            if (itemLatitude == null || itemLongitude == null) {
+                continue;
+            }
+
+            long row = (long) Math.floor((itemLatitude + 90.0) / cellSize);
+            long column = (long) Math.floor((itemLongitude + 180.0) / cellSize);
+            cells.computeIfAbsent((row << 32) | column, cell -> new MapCluster<>())
+                    .add(item, itemLatitude, itemLongitude);
+        }
+        return new ArrayList<>(cells.values());
+    }
+}
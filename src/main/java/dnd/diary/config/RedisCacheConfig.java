@@ -1,5 +1,10 @@
 package dnd.diary.config;
 
+import dnd.diary.config.cache.CacheInvalidationPublisher;
+import dnd.diary.config.cache.CacheProperties;
+import dnd.diary.config.cache.CompressingRedisSerializer;
+import dnd.diary.config.cache.TwoLevelCacheManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -7,23 +12,69 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
 public class RedisCacheConfig {
 
+    // CompressingRedisSerializer 헤더 등 저장 형식이 바뀌면 올림
+    private static final String CACHE_FORMAT_VERSION = "v2";
+
     @Bean
-    public CacheManager testCacheManager(RedisConnectionFactory cf) {
+    public CacheInvalidationPublisher cacheInvalidationPublisher(RedisTemplate<String, String> redisTemplate) {
+        return new CacheInvalidationPublisher(redisTemplate);
+    }
+
+    // 로컬 Caffeine 캐시 + Redis 캐시 2단계 구성
+    @Bean
+    public CacheManager testCacheManager(
+            RedisConnectionFactory cf, CacheProperties cacheProperties,
+            CacheInvalidationPublisher cacheInvalidationPublisher,
+            RedisMessageListenerContainer redisMessageListenerContainer
+    ) {
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        cacheProperties.getSpecs().forEach((cacheName, spec) ->
+                cacheConfigurations.put(cacheName, redisCacheConfiguration(spec)));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(cf)
+                .cacheDefaults(redisCacheConfiguration(cacheProperties.getDefaults()))
+                .withInitialCacheConfigurations(cacheConfigurations)
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, cacheProperties, cacheInvalidationPublisher);
+
+        // 다른 인스턴스의 캐시 무효화 메시지 구독
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> cacheInvalidationPublisher.onMessage(
+                        new String(message.getBody(), StandardCharsets.UTF_8), cacheManager
+                ),
+                new ChannelTopic(CacheInvalidationPublisher.CHANNEL)
+        );
+        return cacheManager;
+    }
+
+    private RedisCacheConfiguration redisCacheConfiguration(CacheProperties.Spec spec) {
         RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
-                .entryTtl(Duration.ofMinutes(3L));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new CompressingRedisSerializer(spec.getSerializer().create(), spec.getCompressionThreshold())
+                ))
+                .entryTtl(spec.getRedisTtl());
 
-        return RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(cf).cacheDefaults(redisCacheConfiguration).build();
+        // 저장 형식(헤더 버전, 직렬화 형식)마다 키를 분리 - 배포 중 이전 버전과 서로 다른 형식의 값을 읽지 않도록
+        // 이전 형식의 키는 읽히지 않고 TTL 이 지나면 사라짐
+        String format = spec.getSerializer().name().toLowerCase();
+        return redisCacheConfiguration.computePrefixWith(cacheName -> cacheName + ":" + CACHE_FORMAT_VERSION + ":" + format + "::");
     }
-}
\ No newline at end of file
+}
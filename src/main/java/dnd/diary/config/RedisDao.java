@@ -1,19 +1,39 @@
 package dnd.diary.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
 public class RedisDao {
+    private static final RedisScript<Boolean> RENAME_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('RENAME', KEYS[1], KEYS[2]) return 1 end return 0",
+            Boolean.class
+    );
+
     private final RedisTemplate<String, String> redisTemplate;
 
     public void setValues(String key, String data) {
@@ -26,8 +46,8 @@ public class RedisDao {
     }
 
     public List<String> getValuesList(String key) {
-        Long len = redisTemplate.opsForList().size(key);
-        return len == 0 ? new ArrayList<>() : redisTemplate.opsForList().range(key, 0, len-1);
+        List<String> values = redisTemplate.opsForList().range(key, 0, -1);
+        return values == null ? new ArrayList<>() : values;
     }
 
     public void setValues(String key, String data, Duration duration) {
@@ -40,7 +60,138 @@ public class RedisDao {
         return values.get(key);
     }
 
+    public List<String> multiGetValues(List<String> keys) {
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        return values == null ? new ArrayList<>(Collections.nCopies(keys.size(), null)) : values;
+    }
+
+    // 여러 키를 같은 만료 시간으로 한 번에 저장
+    public void multiSetValues(Map<String, String> data, Duration duration) {
+        executePipelined(operations ->
+                data.forEach((key, value) -> operations.opsForValue().set(key, value, duration))
+        );
+    }
+
+    public Boolean setValuesIfAbsent(String key, String data) {
+        return redisTemplate.opsForValue().setIfAbsent(key, data);
+    }
+
+    // 만료 시간이 있는 SET NX - 락 용도
+    public boolean setValuesIfAbsent(String key, String data, Duration duration) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, data, duration));
+    }
+
+    public Long increaseValues(String key) {
+        return redisTemplate.opsForValue().increment(key);
+    }
+
+    public List<Long> multiIncreaseValues(List<String> keys) {
+        return executePipelined(operations ->
+                keys.forEach(key -> operations.opsForValue().increment(key))
+        ).stream().map(result -> (Long) result).toList();
+    }
+
     public void deleteValues(String key) {
         redisTemplate.delete(key);
     }
+
+    public void multiDeleteValues(Collection<String> keys) {
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    public boolean hasKey(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
+    public void renameKey(String oldKey, String newKey) {
+        redisTemplate.rename(oldKey, newKey);
+    }
+
+    // 키가 있을 때만 이름 변경 - 확인과 변경을 한 번에 실행하므로 다른 인스턴스와 경쟁해도 한 곳만 성공
+    public boolean renameKeyIfExists(String oldKey, String newKey) {
+        return Boolean.TRUE.equals(redisTemplate.execute(RENAME_IF_EXISTS_SCRIPT, List.of(oldKey, newKey)));
+    }
+
+    public Long setValuesSet(String key, String... data) {
+        return redisTemplate.opsForSet().add(key, data);
+    }
+
+    public Long deleteValuesSet(String key, String... data) {
+        return redisTemplate.opsForSet().remove(key, (Object[]) data);
+    }
+
+    public Set<String> getValuesSet(String key) {
+        Set<String> members = redisTemplate.opsForSet().members(key);
+        return members == null ? new HashSet<>() : members;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Set<String>> multiGetValuesSet(List<String> keys) {
+        return executePipelined(operations ->
+                keys.forEach(key -> operations.opsForSet().members(key))
+        ).stream().map(result -> result == null ? new HashSet<String>() : (Set<String>) result).toList();
+    }
+
+    public boolean isMemberSet(String key, String data) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key, data));
+    }
+
+    // SMISMEMBER 한 번으로 후보 중 SET 에 포함된 값만 반환
+    public Set<String> filterMembersSet(String key, List<String> candidates) {
+        Set<String> members = new HashSet<>();
+        if (candidates.isEmpty()) {
+            return members;
+        }
+        Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(key, candidates.toArray());
+        if (result != null) {
+            result.forEach((value, isMember) -> {
+                if (Boolean.TRUE.equals(isMember)) {
+                    members.add(value.toString());
+                }
+            });
+        }
+        return members;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<List<String>> multiGetValuesList(List<String> keys) {
+        return executePipelined(operations ->
+                keys.forEach(key -> operations.opsForList().range(key, 0, -1))
+        ).stream().map(result -> result == null ? new ArrayList<String>() : (List<String>) result).toList();
+    }
+
+    public void multiSetValuesList(Map<String, List<String>> data) {
+        executePipelined(operations ->
+                data.forEach((key, values) -> operations.opsForList().rightPushAll(key, values))
+        );
+    }
+
+    public boolean isListType(String key) {
+        return redisTemplate.type(key) == DataType.LIST;
+    }
+
+    public List<String> scanKeys(String pattern) {
+        List<String> keys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> scannedKeys = new ArrayList<>();
+            try (Cursor<byte[]> cursor = connection.scan(ScanOptions.scanOptions().match(pattern).count(1000).build())) {
+                cursor.forEachRemaining(key -> scannedKeys.add(new String(key, StandardCharsets.UTF_8)));
+            }
+            return scannedKeys;
+        });
+        return keys == null ? new ArrayList<>() : keys;
+    }
+
+    // 여러 명령을 파이프라인으로 묶어 한 번의 왕복으로 실행 - 명령 순서대로 결과 반환
+    public List<Object> executePipelined(Consumer<RedisOperations<String, String>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
 }
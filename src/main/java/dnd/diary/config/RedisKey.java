@@ -0,0 +1,32 @@
+package dnd.diary.config;
+
+public class RedisKey {
+
+    private RedisKey() {
+    }
+
+    // 사용자가 북마크한 게시물 ID 집합 (SET)
+    public static String bookmark(String email) {
+        return "bookmark:" + email;
+    }
+
+    // 게시물 조회수 카운터 (기존 키 형식 유지)
+    public static String views(Long contentId) {
+        return String.valueOf(contentId);
+    }
+
+    // 게시물을 조회한 사용자 ID 집합 (SET)
+    public static String contentViewers(Long contentId) {
+        return "content:viewers:" + contentId;
+    }
+
+    // 로그아웃된 access token ID(jti)
+    public static String revokedToken(String tokenId) {
+        return "logout:" + tokenId;
+    }
+
+    // DB 반영이 필요한 게시물 ID 집합 (SET)
+    public static String dirtyViews() {
+        return "content:views:dirty";
+    }
+}
@@ -3,6 +3,7 @@ package dnd.diary.config;
 import dnd.diary.config.Jwt.JwtAccessDeniedHandler;
 import dnd.diary.config.Jwt.JwtAuthenticationEntryPoint;
 import dnd.diary.config.Jwt.JwtSecurityConfig;
+import dnd.diary.config.Jwt.TokenBlacklist;
 import dnd.diary.config.Jwt.TokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -21,7 +22,7 @@ import org.springframework.web.filter.CorsFilter;
 @EnableGlobalMethodSecurity(prePostEnabled = true)
 @RequiredArgsConstructor
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
-    private final RedisDao redisDao;
+    private final TokenBlacklist tokenBlacklist;
     private final TokenProvider tokenProvider;
     private final CorsFilter corsFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
@@ -52,6 +53,6 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .anyRequest().authenticated()
 
                 .and()
-                .apply(new JwtSecurityConfig(tokenProvider,redisDao));
+                .apply(new JwtSecurityConfig(tokenProvider, tokenBlacklist));
     }
 }
\ No newline at end of file
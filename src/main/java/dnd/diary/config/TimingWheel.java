@@ -0,0 +1,179 @@
+package dnd.diary.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 계층형 타이밍 휠 - 작업을 만료 시각 단위 버킷에 담고, 만료된 버킷만 DelayQueue 로 깨워 처리
+// 범위를 넘는 작업은 한 단계 큰 단위의 상위 휠에 담았다가 만료가 가까워지면 하위 휠로 내려옴
+@Slf4j
+public class TimingWheel {
+
+    private final Wheel wheel;
+    private final DelayQueue<Bucket> delayQueue = new DelayQueue<>();
+    private final ExecutorService taskExecutor;
+    private final Thread clockThread;
+    private volatile boolean running = true;
+
+    public TimingWheel(String name, long tickMs, int wheelSize) {
+        this.wheel = new Wheel(tickMs, wheelSize, System.currentTimeMillis(), delayQueue);
+        this.taskExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.clockThread = new Thread(this::advanceClock, name + "-clock");
+        this.clockThread.setDaemon(true);
+        this.clockThread.start();
+    }
+
+    // expirationMs(epoch millis) 에 task 실행 - 이미 지난 시각이면 바로 실행
+    public void schedule(long expirationMs, Runnable task) {
+        add(new TimerTask(expirationMs, task));
+    }
+
+    public void shutdown() {
+        running = false;
+        clockThread.interrupt();
+        taskExecutor.shutdown();
+    }
+
+    private synchronized void add(TimerTask timerTask) {
+        if (!wheel.add(timerTask)) {
+            taskExecutor.execute(() -> run(timerTask));
+        }
+    }
+
+    private void run(TimerTask timerTask) {
+        try {
+            // 버킷은 tick 단위로 내림한 시각에 만료되므로 남은 시간만큼 대기
+            long remainingMs = timerTask.expirationMs() - System.currentTimeMillis();
+            if (remainingMs > 0) {
+                Thread.sleep(remainingMs);
+            }
+            timerTask.task().run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("[타이밍 휠] 작업 실행 실패", e);
+        }
+    }
+
+    private void advanceClock() {
+        while (running) {
+            try {
+                Bucket bucket = delayQueue.poll(200, TimeUnit.MILLISECONDS);
+                while (bucket != null) {
+                    List<TimerTask> timerTasks;
+                    synchronized (this) {
+                        wheel.advanceClock(bucket.getExpiration());
+                        timerTasks = bucket.flush();
+                    }
+                    // 하위 휠로 다시 담거나, 만료된 작업은 실행
+                    timerTasks.forEach(this::add);
+                    bucket = delayQueue.poll();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private record TimerTask(long expirationMs, Runnable task) {
+    }
+
+    private static class Wheel {
+        private final long tickMs;
+        private final int wheelSize;
+        private final long interval;
+        private final Bucket[] buckets;
+        private final DelayQueue<Bucket> delayQueue;
+        private long currentTime;
+        private Wheel overflowWheel;
+
+        private Wheel(long tickMs, int wheelSize, long startMs, DelayQueue<Bucket> delayQueue) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket();
+            }
+            this.delayQueue = delayQueue;
+            this.currentTime = startMs - (startMs % tickMs);
+        }
+
+        // 이미 만료된 작업이면 false
+        private boolean add(TimerTask timerTask) {
+            long expiration = timerTask.expirationMs();
+            if (expiration < currentTime + tickMs) {
+                return false;
+            }
+            if (expiration < currentTime + interval) {
+                long virtualId = expiration / tickMs;
+                Bucket bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.add(timerTask);
+                if (bucket.setExpiration(virtualId * tickMs)) {
+                    delayQueue.offer(bucket);
+                }
+                return true;
+            }
+            if (overflowWheel == null) {
+                overflowWheel = new Wheel(interval, wheelSize, currentTime, delayQueue);
+            }
+            return overflowWheel.add(timerTask);
+        }
+
+        private void advanceClock(long timeMs) {
+            if (timeMs >= currentTime + tickMs) {
+                currentTime = timeMs - (timeMs % tickMs);
+                if (overflowWheel != null) {
+                    overflowWheel.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+
+    private static class Bucket implements Delayed {
+        private final List<TimerTask> timerTasks = new ArrayList<>();
+        private final AtomicLong expiration = new AtomicLong(-1L);
+
+        private synchronized void add(TimerTask timerTask) {
+            timerTasks.add(timerTask);
+        }
+
+        private synchronized List<TimerTask> flush() {
+            List<TimerTask> flushed = new ArrayList<>(timerTasks);
+            timerTasks.clear();
+            expiration.set(-1L);
+            return flushed;
+        }
+
+        // 버킷의 만료 시각이 바뀐 경우에만 DelayQueue 에 다시 넣음
+        private boolean setExpiration(long expirationMs) {
+            return expiration.getAndSet(expirationMs) != expirationMs;
+        }
+
+        private long getExpiration() {
+            return expiration.get();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(getExpiration() - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getExpiration(), ((Bucket) other).getExpiration());
+        }
+    }
+}
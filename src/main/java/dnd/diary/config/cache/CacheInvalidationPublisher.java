@@ -0,0 +1,48 @@
+package dnd.diary.config.cache;
+
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.UUID;
+
+// 캐시 변경 시 다른 인스턴스의 로컬 캐시를 비우도록 Redis pub/sub 으로 알림
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+    private static final String DELIMITER = "|";
+    private static final String EVICT = "evict";
+    private static final String CLEAR = "clear";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    // 자신이 보낸 메시지는 무시하기 위한 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        redisTemplate.convertAndSend(CHANNEL, String.join(DELIMITER, instanceId, EVICT, cacheName, key));
+    }
+
+    public void publishClear(String cacheName) {
+        redisTemplate.convertAndSend(CHANNEL, String.join(DELIMITER, instanceId, CLEAR, cacheName, ""));
+    }
+
+    // instanceId|evict|cacheName|key 형식의 메시지를 해석해 로컬 캐시에 반영
+    public void onMessage(String message, TwoLevelCacheManager cacheManager) {
+        String[] parts = message.split("\\" + DELIMITER, 4);
+        if (parts.length < 4 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = cacheManager.getLoadedCache(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        if (EVICT.equals(parts[1])) {
+            cache.evictLocal(parts[3]);
+        } else if (CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        }
+    }
+}
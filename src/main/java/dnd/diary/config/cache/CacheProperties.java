@@ -0,0 +1,34 @@
+package dnd.diary.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// 캐시 이름별 로컬(Caffeine) / Redis 캐시 설정 - 지정하지 않은 캐시는 defaults 사용
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+
+    private Spec defaults = new Spec();
+    private Map<String, Spec> specs = new HashMap<>();
+
+    public Spec getSpec(String cacheName) {
+        return specs.getOrDefault(cacheName, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private Duration localTtl = Duration.ofSeconds(30L);
+        private long localMaximumSize = 1000L;
+        private Duration redisTtl = Duration.ofMinutes(3L);
+        private CacheSerializer serializer = CacheSerializer.JSON;
+        // 직렬화 결과가 이 크기(byte) 이상이면 LZ4 압축, 0 미만이면 압축하지 않음
+        private int compressionThreshold = -1;
+    }
+}
@@ -0,0 +1,39 @@
+package dnd.diary.config.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+// 캐시 값 직렬화 형식 - SMILE, CBOR 는 필드명과 타입 정보를 바이너리로 저장해 JSON 보다 작음
+public enum CacheSerializer {
+    JSON(null),
+    SMILE(new SmileFactory()),
+    CBOR(new CBORFactory());
+
+    private final JsonFactory jsonFactory;
+
+    CacheSerializer(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    public RedisSerializer<Object> create() {
+        if (jsonFactory == null) {
+            return new GenericJackson2JsonRedisSerializer();
+        }
+
+        // GenericJackson2JsonRedisSerializer 와 같은 방식으로 타입 정보를 함께 저장
+        ObjectMapper objectMapper = new ObjectMapper(jsonFactory);
+        objectMapper.activateDefaultTyping(
+                objectMapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY
+        );
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        // 기본 생성자와 같이 null 캐시 값(NullValue)도 저장할 수 있도록
+        GenericJackson2JsonRedisSerializer.registerNullValueSerializer(objectMapper, null);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+}
@@ -0,0 +1,63 @@
+package dnd.diary.config.cache;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// 직렬화 결과가 기준 크기 이상이면 LZ4 로 압축 - 첫 바이트로 압축 여부 구분
+public class CompressingRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte RAW = 0x00;
+    private static final byte LZ4 = 0x01;
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+    private final RedisSerializer<Object> delegate;
+    // 0 미만이면 압축하지 않음
+    private final int compressionThreshold;
+
+    public CompressingRedisSerializer(RedisSerializer<Object> delegate, int compressionThreshold) {
+        this.delegate = delegate;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (bytes == null) {
+            return null;
+        }
+
+        if (compressionThreshold < 0 || bytes.length < compressionThreshold) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 + bytes.length);
+            return buffer.put(RAW).put(bytes).array();
+        }
+
+        byte[] compressed = COMPRESSOR.compress(bytes);
+        ByteBuffer buffer = ByteBuffer.allocate(1 + Integer.BYTES + compressed.length);
+        return buffer.put(LZ4).putInt(bytes.length).put(compressed).array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        switch (bytes[0]) {
+            case RAW:
+                return delegate.deserialize(Arrays.copyOfRange(bytes, 1, bytes.length));
+            case LZ4:
+                int length = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+                return delegate.deserialize(DECOMPRESSOR.decompress(bytes, 1 + Integer.BYTES, length));
+            default:
+                // 헤더 없이 저장된 기존 JSON 값
+                return delegate.deserialize(bytes);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package dnd.diary.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+// 로컬 Caffeine 캐시(L1)를 먼저 조회하고 없으면 Redis 캐시(L2)를 조회
+public class TwoLevelCache implements org.springframework.cache.Cache {
+
+    private final String name;
+    private final Cache<Object, ValueWrapper> localCache;
+    private final org.springframework.cache.Cache redisCache;
+    private final CacheInvalidationPublisher publisher;
+
+    public TwoLevelCache(
+            String name, Cache<Object, ValueWrapper> localCache,
+            org.springframework.cache.Cache redisCache, CacheInvalidationPublisher publisher
+    ) {
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper localValue = localCache.getIfPresent(localKey(key));
+        if (localValue != null) {
+            return localValue;
+        }
+
+        ValueWrapper redisValue = redisCache.get(key);
+        if (redisValue != null) {
+            localCache.put(localKey(key), new SimpleValueWrapper(redisValue.get()));
+        }
+        return redisValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value = redisCache.get(key, valueLoader);
+        localCache.put(localKey(key), new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        localCache.put(localKey(key), new SimpleValueWrapper(value));
+        publisher.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = redisCache.putIfAbsent(key, value);
+        localCache.put(localKey(key), new SimpleValueWrapper(existing == null ? value : existing.get()));
+        // 새 값이 저장된 경우 다른 인스턴스의 로컬 캐시도 비움
+        if (existing == null) {
+            publisher.publishEvict(name, localKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        localCache.invalidate(localKey(key));
+        publisher.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+        publisher.publishClear(name);
+    }
+
+    // 다른 인스턴스에서 받은 무효화 메시지 처리 - Redis 는 이미 반영되어 있으므로 로컬만 비움
+    public void evictLocal(String key) {
+        localCache.invalidate(key);
+    }
+
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    // 메시지로 전달받은 키와 비교할 수 있도록 로컬 키는 문자열로 저장
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,55 @@
+package dnd.diary.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final RedisCacheManager redisCacheManager;
+    private final CacheProperties cacheProperties;
+    private final CacheInvalidationPublisher publisher;
+    private final ConcurrentMap<String, TwoLevelCache> cacheMap = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            RedisCacheManager redisCacheManager, CacheProperties cacheProperties, CacheInvalidationPublisher publisher
+    ) {
+        this.redisCacheManager = redisCacheManager;
+        this.cacheProperties = cacheProperties;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return cacheMap.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(cacheMap.keySet());
+    }
+
+    // 무효화 메시지 처리용 - 아직 사용되지 않은 캐시는 비울 로컬 값도 없으므로 생성하지 않음
+    public TwoLevelCache getLoadedCache(String name) {
+        return cacheMap.get(name);
+    }
+
+    private TwoLevelCache createCache(String name) {
+        CacheProperties.Spec spec = cacheProperties.getSpec(name);
+        return new TwoLevelCache(
+                name,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(spec.getLocalTtl())
+                        .maximumSize(spec.getLocalMaximumSize())
+                        .build(),
+                redisCacheManager.getCache(name),
+                publisher
+        );
+    }
+}
@@ -3,6 +3,7 @@ package dnd.diary.controller.content;
 import dnd.diary.dto.content.ContentDto;
 import dnd.diary.response.CustomResponseEntity;
 import dnd.diary.service.content.ContentService;
+import dnd.diary.service.s3.S3UploadPipeline;
 import lombok.RequiredArgsConstructor;
 import org.locationtech.jts.io.ParseException;
 import org.springframework.data.domain.Page;
@@ -17,6 +18,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ContentController {
     private final ContentService contentService;
+    private final S3UploadPipeline s3UploadPipeline;
 
     // 그룹 피드 리스트 조회
     @GetMapping("content/group")
@@ -59,10 +61,12 @@ public class ContentController {
             @RequestParam(required = false) final Double longitude,
             @RequestParam(required = false) final String location
     ) throws ParseException {
-        return CustomResponseEntity.success(contentService.createContent(
-                userDetails, multipartFile, groupId,
-                content, latitude, longitude, location)
-        );
+        // 이미지 전송이 끝난 뒤 게시물 저장 - 전송 중에는 DB 커넥션을 잡지 않음
+        return CustomResponseEntity.success(s3UploadPipeline.uploadAndThen(multipartFile, uploadedImages ->
+                contentService.createContent(
+                        userDetails, uploadedImages, groupId,
+                        content, latitude, longitude, location)
+        ));
     }
 
     // 피드 조회
@@ -85,10 +89,11 @@ public class ContentController {
             @RequestParam(required = false) final Double longitude,
             @RequestParam(required = false) final String location
     ) {
-        return CustomResponseEntity.success(contentService.updateContent(
-                userDetails, multipartFile, contentId,
-                content, latitude, longitude, location)
-        );
+        return CustomResponseEntity.success(s3UploadPipeline.uploadAndThen(multipartFile, uploadedImages ->
+                contentService.updateContent(
+                        userDetails, uploadedImages, contentId,
+                        content, latitude, longitude, location)
+        ));
     }
 
     // 피드 삭제
@@ -112,6 +117,19 @@ public class ContentController {
         return CustomResponseEntity.success(contentService.listMyMap(userDetails, startLatitude, startLongitude, endLatitude, endLongitude));
     }
 
+    // 지도 포함 검색 - 확대 수준(zoom)에 따라 클러스터로 조회
+    @GetMapping("content/map/cluster")
+    public CustomResponseEntity<ContentDto.mapClusterListContent> myMapClusterList(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam final Double startLatitude,
+            @RequestParam final Double startLongitude,
+            @RequestParam final Double endLatitude,
+            @RequestParam final Double endLongitude,
+            @RequestParam(required = false) final Integer zoom   // 없으면 가장 작은 격자 - 미션 지도 조회와 동일
+    ) {
+        return CustomResponseEntity.success(contentService.clusterMyMap(userDetails, startLatitude, startLongitude, endLatitude, endLongitude, zoom));
+    }
+
     // 지도 피드 상세보기
     @GetMapping("content/map/detail")
     public CustomResponseEntity<List<ContentDto.mapListContentDetail>> myMapListDetail(
@@ -6,9 +6,11 @@ import dnd.diary.response.group.*;
 import dnd.diary.response.group.GroupInviteResponse;
 import dnd.diary.service.group.GroupService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -58,6 +60,16 @@ public class GroupController {
 		 return CustomResponseEntity.success(groupService.getGroupList());
 	}
 
+	// 그룹 메인 - 내가 속한 그룹 목록 페이지 조회 (첫 페이지는 recentUpdatedAt, groupId 생략)
+	@GetMapping("/list/page")
+	public CustomResponseEntity<GroupPageResponse> getGroupPage(
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime recentUpdatedAt,
+		@RequestParam(required = false) Long groupId,
+		@RequestParam(defaultValue = "20") int size
+	) {
+		return CustomResponseEntity.success(groupService.getGroupPage(recentUpdatedAt, groupId, size));
+	}
+
 	@GetMapping("/list/my")
 	public CustomResponseEntity<List<GroupSimpleResponse>> getGroupSimpleList() {
 		return CustomResponseEntity.success(groupService.getGroupSimpleList());
@@ -66,9 +78,10 @@ public class GroupController {
 	// 내가 속한 그룹 목록 내 검색
 	@GetMapping("/search")
 	public CustomResponseEntity<GroupListResponse> searchGroupList(
-		@RequestParam String keyword
+		@RequestParam String keyword,
+		@RequestParam(required = false) Integer page
 	) {
-		 return CustomResponseEntity.success(groupService.searchGroupList(keyword));
+		 return CustomResponseEntity.success(groupService.searchGroupList(keyword, page));
 	}
 
 	// 그룹 메인 - 즐겨찾기 그룹 조회
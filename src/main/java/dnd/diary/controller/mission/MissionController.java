@@ -7,6 +7,7 @@ import dnd.diary.dto.mission.MissionCheckLocationRequest;
 import dnd.diary.dto.mission.MissionListByMapRequest;
 import dnd.diary.response.mission.MissionCheckContentResponse;
 import dnd.diary.response.mission.MissionCheckLocationResponse;
+import dnd.diary.response.mission.MissionClusterResponse;
 import org.locationtech.jts.io.ParseException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,6 +17,7 @@ import dnd.diary.dto.group.MissionCreateRequest;
 import dnd.diary.response.CustomResponseEntity;
 import dnd.diary.response.mission.MissionResponse;
 import dnd.diary.service.mission.MissionService;
+import dnd.diary.service.s3.S3UploadPipeline;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -26,6 +28,7 @@ public class MissionController {
 
 	private final MissionService missionService;
 	private final MissionValidator missionValidator;
+	private final S3UploadPipeline s3UploadPipeline;
 
 	@PostMapping
 	public CustomResponseEntity<MissionResponse> createMission(@RequestBody MissionCreateRequest request)
@@ -68,6 +71,13 @@ public class MissionController {
 		return CustomResponseEntity.success(missionService.getMissionListByMap(request));
 	}
 
+	@PostMapping("/list/map/cluster")
+	public CustomResponseEntity<MissionClusterResponse> getMissionClusterByMap(
+			@RequestBody MissionListByMapRequest request
+	) {
+		return CustomResponseEntity.success(missionService.getMissionClusterByMap(request));
+	}
+
 	@GetMapping("/map")
 	public CustomResponseEntity<MissionResponse> getMissionByMap(@RequestParam Long missionId) {
 		return CustomResponseEntity.success(missionService.getMission(missionId));
@@ -86,6 +96,9 @@ public class MissionController {
 			@RequestParam final Long missionId,
 			@RequestParam final String content
 	) throws ParseException {
-		return CustomResponseEntity.success(missionService.checkMissionContent(user, multipartFiles, missionId, content));
+		// 이미지 전송이 끝난 뒤 미션 인증 - 전송 중에는 DB 커넥션을 잡지 않음
+		return CustomResponseEntity.success(s3UploadPipeline.uploadAndThen(multipartFiles, uploadedImages ->
+				missionService.checkMissionContent(user, uploadedImages, missionId, content)
+		));
 	}
 }
\ No newline at end of file
@@ -99,11 +99,12 @@ public class Content extends BaseEntity {
         this.contentImages = contentImages;
     }
 
-    public void updateContent(String content, Double latitude, Double longitude, String location, List<ContentImage> contentImages){
+    public void updateContent(String content, Double latitude, Double longitude, Point point, String location, List<ContentImage> contentImages){
         this.contentImages = contentImages;
         this.content = content;
         this.latitude = latitude;
         this.longitude = longitude;
+        this.point = point;
         this.location = location;
     }
 
@@ -24,8 +24,21 @@ public class ContentImage extends BaseEntity {
     @Column(nullable = false)
     private String imageName;
 
+    // 리사이즈본 - ImageIO로 읽을 수 없는 형식이거나 이전에 올린 이미지는 null
+    private String thumbnailUrl;
+
+    private String largeUrl;
+
     // 해당 이미지가 포함된 게시글
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "content_id")
     private Content content;
+
+    public String getThumbnailUrlOrOriginal() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+
+    public String getLargeUrlOrOriginal() {
+        return largeUrl != null ? largeUrl : imageUrl;
+    }
 }
@@ -10,6 +10,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -26,6 +27,7 @@ import static dnd.diary.domain.mission.DateUtil.convertLocalDateTimeZone;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@DynamicUpdate
 @Table(name = "groups")
 @SQLDelete(sql = "UPDATE groups SET deleted = true WHERE group_id = ?")
 @Where(clause = "deleted = false")
@@ -55,6 +57,9 @@ public class Group extends BaseEntity {
 
     private boolean deletedYn = Boolean.FALSE;  // 삭제 여부 컬럼
 
+    // 그룹 구성원 수 - 가입 시 쿼리로 증가시키므로 엔티티 변경 시 덮어쓰지 않도록 @DynamicUpdate
+    private Integer memberCount;
+
     // 그룹에 가입한 유저 정보
     @OneToMany(mappedBy = "group")
     private List<UserJoinGroup> userJoinGroups = new ArrayList<>();
@@ -82,6 +87,7 @@ public class Group extends BaseEntity {
         this.groupImageUrl = groupImageUrl;
         this.groupCreateUser = groupCreateUser;
         this.recentUpdatedAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));   // 그룹 생성일을 초기값으로
+        this.memberCount = 1;   // 그룹 생성자
         this.deleted = false;
         this.deletedYn = false;
     }
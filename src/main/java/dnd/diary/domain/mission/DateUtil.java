@@ -1,14 +1,37 @@
 package dnd.diary.domain.mission;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
 public class DateUtil {
 
+	// 미션 기간은 한국 시간 기준 날짜/시각 그대로 저장 - 상태 판단도 모두 이 기준으로 비교
+	public static final String MISSION_ZONE_ID = "Asia/Seoul";
+	public static final ZoneId MISSION_ZONE = ZoneId.of(MISSION_ZONE_ID);
+
 	public static LocalDateTime convertLocalDateTimeZone(final LocalDateTime localDateTime, final ZoneId fromZone, final ZoneId toZone) {
 		final ZonedDateTime zonedDateTime = localDateTime.atZone(fromZone);
 		final ZonedDateTime converted = zonedDateTime.withZoneSameInstant(toZone);
 		return converted.toLocalDateTime();
 	}
-}
\ No newline at end of file
+
+	public static LocalDateTime missionNow() {
+		return LocalDateTime.now(MISSION_ZONE);
+	}
+
+	public static LocalDate missionToday() {
+		return LocalDate.now(MISSION_ZONE);
+	}
+
+	// 미션 시작일 00:00:00
+	public static LocalDateTime missionStartDateTime(final LocalDate missionStartDate) {
+		return missionStartDate.atStartOfDay();
+	}
+
+	// 미션 종료일 23:59:59
+	public static LocalDateTime missionEndDateTime(final LocalDate missionEndDate) {
+		return missionEndDate.atTime(23, 59, 59);
+	}
+}
@@ -1,6 +1,5 @@
 package dnd.diary.domain.mission;
 
-import static dnd.diary.domain.mission.DateUtil.*;
 
 import com.sun.istack.NotNull;
 import dnd.diary.domain.BaseEntity;
@@ -18,14 +17,16 @@ import org.springframework.format.annotation.DateTimeFormat;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_mission_status_start_date", columnList = "mission_status, mission_start_date"),
+    @Index(name = "idx_mission_status_end_date", columnList = "mission_status, mission_end_date")
+})
 @SQLDelete(sql = "UPDATE mission SET deleted = true WHERE mission_id = ?")
 @Where(clause = "deleted = false")
 public class Mission extends BaseEntity {
@@ -64,7 +65,7 @@ public class Mission extends BaseEntity {
 
     private Integer missionColor;
 
-//    private Point point;
+    private Point point;
 
     private boolean deleted = Boolean.FALSE;   // 미션 삭제 여부 - soft delete 처리용
 
@@ -94,14 +95,15 @@ public class Mission extends BaseEntity {
         this.group = group;
         this.missionName = missionName;
         this.missionNote = missionNote;
-        // UTC 로 변환 후 저장
         this.existPeriod = existPeriod;
-        this.missionStartDate = missionStartDate != null ? convertLocalDateTimeZone(missionStartDate, ZoneId.of("Asia/Seoul"), ZoneOffset.UTC) : null;
-        this.missionEndDate = missionEndDate != null ? convertLocalDateTimeZone(missionEndDate, ZoneId.of("Asia/Seoul"), ZoneOffset.UTC) : null;
+        // 한국 시간 기준 날짜/시각 그대로 저장 (DateUtil.MISSION_ZONE)
+        this.missionStartDate = missionStartDate;
+        this.missionEndDate = missionEndDate;
         this.missionLocationName = missionLocationName;
         this.missionLocationAddress = missionLocationAddress;
         this.latitude = latitude;
         this.longitude = longitude;
+        this.point = point;
         this.missionColor = missionColor;
         this.missionStatus = missionStatus;
         this.deletedYn = false;
@@ -45,7 +45,7 @@ public class ContentDto {
         List<EmotionResponseGroupListDto> emotionResponseDtos;
 
         public static ContentDto.groupListPagePostsDto response(
-                Content content, Long emotionStatus, String views, Boolean bookmarkAddStatus
+                Content content, Long emotionStatus, long views, Boolean bookmarkAddStatus
         ) {
             return groupListPagePostsDto.builder()
                     .id(content.getId())
@@ -59,7 +59,7 @@ public class ContentDto {
                     .longitude(content.getLongitude())
                     .location(content.getLocation())
                     .createAt(content.getCreatedAt())
-                    .views(Long.parseLong(views))
+                    .views(views)
                     .contentLink(content.getContentLink())
                     .deletedYn(content.isDeletedYn())
                     .comments((long) content.getComments().size())
@@ -89,10 +89,20 @@ public class ContentDto {
         private String imageUrl;
         private Long contentId;
 
+        // 목록 - 썸네일, 리사이즈본이 없으면 원본
         public static ContentDto.ImageResponseDto response(ContentImage contentImage) {
+            return response(contentImage, contentImage.getThumbnailUrlOrOriginal());
+        }
+
+        // 상세 - 큰 이미지, 리사이즈본이 없으면 원본
+        public static ContentDto.ImageResponseDto detailResponse(ContentImage contentImage) {
+            return response(contentImage, contentImage.getLargeUrlOrOriginal());
+        }
+
+        private static ContentDto.ImageResponseDto response(ContentImage contentImage, String imageUrl) {
             return ImageResponseDto.builder()
                     .id(contentImage.getId())
-                    .imageUrl(contentImage.getImageUrl())
+                    .imageUrl(imageUrl)
                     .imageName(contentImage.getImageName())
                     .contentId(contentImage.getContent().getId())
                     .build();
@@ -172,7 +182,7 @@ public class ContentDto {
                     .groupId(content.getGroup().getId())
                     .collect(content.getContentImages()
                             .stream()
-                            .map(ContentDto.ImageResponseDto::response)
+                            .map(ContentDto.ImageResponseDto::detailResponse)
                             .collect(Collectors.toList()))
                     .build();
         }
@@ -181,7 +191,7 @@ public class ContentDto {
     @AllArgsConstructor
     @NoArgsConstructor
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     public static class detailDto {
 
         private Long id;
@@ -202,9 +212,9 @@ public class ContentDto {
         private String createAt;
         List<ContentDto.ImageResponseDto> collect;
 
+        // 캐시 대상 - 사용자별 상태를 제외한 게시물 정보
         public static ContentDto.detailDto response(
-                Content content, Integer views, List<ContentDto.ImageResponseDto> collect,
-                boolean bookmarkAddStatus, Long emotionStatus
+                Content content, List<ContentDto.ImageResponseDto> collect
         ) {
             return detailDto.builder()
                     .id(content.getId())
@@ -215,15 +225,24 @@ public class ContentDto {
                     .latitude(content.getLatitude())
                     .longitude(content.getLongitude())
                     .location(content.getLocation())
-                    .views(views)
+                    .views(content.getViews())
                     .contentLink(content.getContentLink())
                     .deletedYn(content.isDeletedYn())
                     .userId(content.getUser().getId())
                     .groupId(content.getGroup().getId())
                     .collect(collect)
+                    .createAt(content.getCreatedAt().toString().substring(2, 10).replace("-", "."))
+                    .build();
+        }
+
+        // 캐시된 게시물 정보에 조회수, 북마크, 공감 상태를 요청 시점 값으로 덧씌움
+        public static ContentDto.detailDto response(
+                ContentDto.detailDto detail, long views, boolean bookmarkAddStatus, Long emotionStatus
+        ) {
+            return detail.toBuilder()
+                    .views(views)
                     .bookmarkAddStatus(bookmarkAddStatus)
                     .emotionStatus(emotionStatus)
-                    .createAt(content.getCreatedAt().toString().substring(2, 10).replace("-", "."))
                     .build();
         }
     }
@@ -251,7 +270,7 @@ public class ContentDto {
         List<ContentDto.ImageResponseDto> collect;
         private List<deleteImageNameDto> deleteContentImageName;
 
-        public static ContentDto.UpdateDto response(Content content, Integer views, List<ContentDto.ImageResponseDto> collect) {
+        public static ContentDto.UpdateDto response(Content content, long views, List<ContentDto.ImageResponseDto> collect) {
             return UpdateDto.builder()
                     .id(content.getId())
                     .userName(content.getUser().getNickName())
@@ -333,6 +352,59 @@ public class ContentDto {
         }
     }
 
+    // 지도 클러스터 조회 - 게시물이 적으면 contents 에 개별 게시물, 많으면 clusters 에 클러스터 목록
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Builder
+    public static class mapClusterListContent {
+        private boolean clustered;
+        private List<ContentDto.mapListContent> contents;
+        private List<ContentDto.mapClusterContent> clusters;
+
+        public static ContentDto.mapClusterListContent contents(List<ContentDto.mapListContent> contents) {
+            return mapClusterListContent.builder()
+                    .clustered(false)
+                    .contents(contents)
+                    .clusters(new ArrayList<>())
+                    .build();
+        }
+
+        public static ContentDto.mapClusterListContent clusters(List<ContentDto.mapClusterContent> clusters) {
+            return mapClusterListContent.builder()
+                    .clustered(true)
+                    .contents(new ArrayList<>())
+                    .clusters(clusters)
+                    .build();
+        }
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Builder
+    public static class mapClusterContent {
+        private Double latitude;
+        private Double longitude;
+        private Long counts;
+        private Long contentId;   // 클러스터 대표 게시물
+        private String contentImageUrl;
+
+        public static ContentDto.mapClusterContent response(
+                Double latitude, Double longitude, int counts, Content content, ContentImage contentImage
+        ) {
+            return mapClusterContent.builder()
+                    .latitude(latitude)
+                    .longitude(longitude)
+                    .counts((long) counts)
+                    .contentId(content.getId())
+                    .contentImageUrl(contentImage != null
+                            ? contentImage.getThumbnailUrlOrOriginal()
+                            : "https://dnd-diary-image-bucket.s3.ap-northeast-2.amazonaws.com/6f6b761a-8481-45b6-a6cc-9b48ff73c679.png")
+                    .build();
+        }
+    }
+
     @AllArgsConstructor
     @NoArgsConstructor
     @Getter
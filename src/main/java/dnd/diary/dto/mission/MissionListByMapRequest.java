@@ -16,6 +16,8 @@ public class MissionListByMapRequest {
     private Double endLatitude;
     private Double endLongitude;
 
+    private Integer zoom;   // 지도 확대 수준 - 클러스터 조회 시 사용
+
     public MissionListByMapRequest setStartXY() {
         if (endLatitude < startLatitude) {
             Double temp = startLatitude;
@@ -14,5 +14,6 @@ public interface ContentImageRepository extends JpaRepository<ContentImage, Long
     @Query(value = "SELECT c.image_name FROM content_image AS c WHERE content_id = :content_id", nativeQuery = true)
     List<String> findImageNameList(@Param("content_id") Long contentId);
     List<ContentImage> findByContentId(Long contentId);
+    List<ContentImage> findByContentIdInOrderByIdAsc(List<Long> contentIds);
     Optional<ContentImage> findByImageName(String imageName);
 }
@@ -5,8 +5,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,16 +29,37 @@ public interface ContentRepository extends JpaRepository<Content, Long> {
 
     Page<Content> findByUserIdAndDeletedYn(Long userId, Boolean deletedYn, Pageable pageable);
 
+    // FULLTEXT 검색으로 찾을 수 없는 짧은 검색어용
     Page<Content> findByContentContainingAndGroupIdInAndDeletedYn(String word, List<Long> groupId, Boolean deletedYn, Pageable pageable);
 
+    // ngram FULLTEXT 인덱스로 검색 - 관련도, 최신순 정렬
+    @Query(value = "SELECT * FROM content c " +
+            "WHERE c.group_id IN (:groupIds) AND c.deleted_yn = false AND c.delete_at IS NULL " +
+            "AND MATCH(c.content) AGAINST(:query IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(c.content) AGAINST(:query IN BOOLEAN MODE) DESC, c.created_at DESC",
+            countQuery = "SELECT COUNT(*) FROM content c " +
+                    "WHERE c.group_id IN (:groupIds) AND c.deleted_yn = false AND c.delete_at IS NULL " +
+                    "AND MATCH(c.content) AGAINST(:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<Content> searchByFullText(@Param("query") String query, @Param("groupIds") List<Long> groupIds, Pageable pageable);
+
     List<Content> findByLocationAndGroupIdInAndDeletedYn(String location, List<Long> groupId, Boolean deletedYn);
 
     Long countByLocationAndGroupIdInAndDeletedYn(String location, List<Long> groupId, Boolean deletedYn);
 
+    @Query("SELECT c.location AS location, COUNT(c) AS contentCount FROM Content c " +
+            "WHERE c.location IN :locations AND c.group.id IN :groupIds AND c.deletedYn = false " +
+            "GROUP BY c.location")
+    List<LocationContentCount> countGroupByLocation(@Param("locations") Collection<String> locations, @Param("groupIds") List<Long> groupIds);
+
+    // point 가 있는 게시물은 SPATIAL 인덱스로, 아직 point 가 없는 게시물은 기존 위도/경도 범위 조건으로 조회
     @Query(value = "SELECT * FROM content AS c \n" +
-            "WHERE c.group_id IN (?1) AND c.latitude between ?3 and ?2 and c.longitude between ?4 and ?5",
+            "WHERE c.group_id IN (?1) AND MBRContains(ST_GeomFromText(?2), c.point) \n" +
+            "UNION ALL \n" +
+            "SELECT * FROM content AS c \n" +
+            "WHERE c.group_id IN (?1) AND c.point IS NULL AND c.latitude between ?3 and ?4 and c.longitude between ?5 and ?6",
             nativeQuery = true)
-    List<Content> findByMapList(List<Long> group_id, Double endLatitude, Double startLatitude, Double startLongitude, Double endLongitude);
+    List<Content> findByMapList(List<Long> group_id, String boundingBox, Double startLatitude, Double endLatitude, Double startLongitude, Double endLongitude);
 
     Content findByIdAndDeletedYn(Long contentId, Boolean deletedYn);
 }
@@ -10,5 +10,6 @@ public interface EmotionRepository extends JpaRepository<Emotion, Long> {
     List<Emotion> findByContentId(Long contentId);
     Emotion findByContentIdAndUserId(Long contentId, Long userId);
     Emotion findByContentIdAndUserIdAndEmotionYn(Long contentId, Long userId, boolean emotionYn);
+    List<Emotion> findByContentIdInAndUserIdAndEmotionYn(List<Long> contentIdList, Long userId, boolean emotionYn);
     long countByContentId(Long contentId);
 }
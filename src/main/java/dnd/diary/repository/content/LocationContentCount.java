@@ -0,0 +1,8 @@
+package dnd.diary.repository.content;
+
+// 장소별 게시물 수 집계 결과
+public interface LocationContentCount {
+    String getLocation();
+
+    Long getContentCount();
+}
@@ -0,0 +1,22 @@
+package dnd.diary.repository.group;
+
+import java.time.LocalDateTime;
+
+// 그룹 목록 페이지 조회용 - 구성원 수와 즐겨찾기 여부까지 한 번에 조회
+public interface GroupListItem {
+    Long getGroupId();
+
+    String getGroupName();
+
+    String getGroupNote();
+
+    String getGroupImageUrl();
+
+    LocalDateTime getGroupCreatedAt();
+
+    LocalDateTime getRecentUpdatedAt();
+
+    Integer getMemberCount();
+
+    Long getStarCount();
+}
@@ -1,15 +1,76 @@
 package dnd.diary.repository.group;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import dnd.diary.domain.group.Group;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface GroupRepository extends JpaRepository<Group, Long> {
 	Boolean existsByGroupName(String groupName);
-	List<Group> findByGroupNameContainingIgnoreCaseOrGroupNoteContainingIgnoreCaseAndDeletedYn(String groupName, String groupNote, boolean deletedYn);
+
+	// ngram FULLTEXT 인덱스로 그룹 이름/소개 검색 - 관련도, 최신 게시물 등록순 정렬
+	@Query(value = "SELECT * FROM `groups` g " +
+			"WHERE g.deleted = false AND g.deleted_yn = false " +
+			"AND MATCH(g.group_name, g.group_note) AGAINST(:query IN BOOLEAN MODE) " +
+			"ORDER BY MATCH(g.group_name, g.group_note) AGAINST(:query IN BOOLEAN MODE) DESC, g.recent_updated_at DESC",
+			nativeQuery = true)
+	List<Group> searchByFullText(@Param("query") String query, Pageable pageable);
+
+	// FULLTEXT 검색으로 찾을 수 없는 짧은 검색어용 - 이름/소개 조건을 묶어 삭제 여부 조건이 항상 적용되도록
+	@Query("select g from Group g " +
+			"where (lower(g.groupName) like lower(concat('%', :keyword, '%')) or lower(g.groupNote) like lower(concat('%', :keyword, '%'))) " +
+			"and g.deletedYn = false " +
+			"order by g.recentUpdatedAt desc")
+	List<Group> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 	Optional<Group> findByIdAndDeletedYn(Long groupId, boolean deletedYn);
+
+	// 유저가 가입한 그룹 목록 - 구성원/즐겨찾기 컬렉션을 로딩하지 않음
+	@Query("select g from UserJoinGroup ujg join ujg.group g where ujg.user.id = :userId and g.deletedYn = false")
+	List<Group> findJoinedGroupList(@Param("userId") Long userId);
+
+	// 유저가 가입한 그룹 목록 페이지 - (게시물 최신 등록일, 그룹 ID) 내림차순 keyset 페이지네이션
+	@Query("select g.id as groupId, g.groupName as groupName, g.groupNote as groupNote, g.groupImageUrl as groupImageUrl, " +
+			"g.createdAt as groupCreatedAt, g.recentUpdatedAt as recentUpdatedAt, g.memberCount as memberCount, " +
+			"(select count(gs) from GroupStar gs where gs.group = g and gs.user.id = :userId " +
+			"and gs.groupStarStatus = dnd.diary.domain.group.GroupStarStatus.ADD) as starCount " +
+			"from UserJoinGroup ujg join ujg.group g " +
+			"where ujg.user.id = :userId and ujg.deleted = false and g.deletedYn = false " +
+			"order by g.recentUpdatedAt desc, g.id desc")
+	List<GroupListItem> findJoinedGroupPage(@Param("userId") Long userId, Pageable pageable);
+
+	@Query("select g.id as groupId, g.groupName as groupName, g.groupNote as groupNote, g.groupImageUrl as groupImageUrl, " +
+			"g.createdAt as groupCreatedAt, g.recentUpdatedAt as recentUpdatedAt, g.memberCount as memberCount, " +
+			"(select count(gs) from GroupStar gs where gs.group = g and gs.user.id = :userId " +
+			"and gs.groupStarStatus = dnd.diary.domain.group.GroupStarStatus.ADD) as starCount " +
+			"from UserJoinGroup ujg join ujg.group g " +
+			"where ujg.user.id = :userId and ujg.deleted = false and g.deletedYn = false " +
+			"and (g.recentUpdatedAt < :recentUpdatedAt or (g.recentUpdatedAt = :recentUpdatedAt and g.id < :groupId)) " +
+			"order by g.recentUpdatedAt desc, g.id desc")
+	List<GroupListItem> findJoinedGroupPage(@Param("userId") Long userId, @Param("recentUpdatedAt") LocalDateTime recentUpdatedAt,
+											@Param("groupId") Long groupId, Pageable pageable);
+
+	// 동시에 가입해도 누락되지 않도록 DB 에서 증가 - 아직 값이 없는 그룹은 조회 시 채움
+	@Modifying
+	@Query("update Group g set g.memberCount = g.memberCount + :count where g.id = :groupId and g.memberCount is not null")
+	int increaseMemberCount(@Param("groupId") Long groupId, @Param("count") int count);
+
+	// 세기와 저장을 한 문장으로 - 세는 사이에 가입한 구성원이 빠지지 않도록
+	@Transactional
+	@Modifying
+	@Query(value = "update `groups` g set g.member_count = (" +
+			"select count(*) from user_join_group ujg where ujg.group_id = g.group_id and ujg.deleted = false) " +
+			"where g.group_id = :groupId and g.member_count is null", nativeQuery = true)
+	int initMemberCount(@Param("groupId") Long groupId);
+
+	@Query("select g.memberCount from Group g where g.id = :groupId")
+	Integer findMemberCount(@Param("groupId") Long groupId);
 }
@@ -1,11 +1,23 @@
 package dnd.diary.repository.group;
 
 import dnd.diary.domain.group.GroupStar;
+import dnd.diary.domain.group.GroupStarStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Set;
+
 @Repository
 public interface GroupStarRepository extends JpaRepository<GroupStar, Long> {
 
 	GroupStar findByGroupIdAndUserId(Long groupId, Long userId);
+
+	boolean existsByGroupIdAndUserIdAndGroupStarStatus(Long groupId, Long userId, GroupStarStatus groupStarStatus);
+
+	// 유저가 즐겨찾기한 그룹 ID
+	@Query("select gs.group.id from GroupStar gs where gs.user.id = :userId " +
+			"and gs.groupStarStatus = dnd.diary.domain.group.GroupStarStatus.ADD")
+	Set<Long> findStarGroupIdSet(@Param("userId") Long userId);
 }
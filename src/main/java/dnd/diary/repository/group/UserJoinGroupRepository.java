@@ -13,5 +13,10 @@ public interface UserJoinGroupRepository extends JpaRepository<UserJoinGroup, Lo
     @Query(value = "SELECT c.group_id FROM user_join_group AS c WHERE user_id = :user_id", nativeQuery = true)
     List<Long> findGroupIdList(@Param("user_id") Long userId);
 
+    @Query("select ujg.user.id from UserJoinGroup ujg where ujg.group.id = :groupId")
+    List<Long> findUserIdListByGroupId(@Param("groupId") Long groupId);
+
+    boolean existsByUserId(Long userId);
+
     UserJoinGroup findUserJoinGroupByUserIdAndGroupId(Long userId, Long groupId);
 }
@@ -0,0 +1,8 @@
+package dnd.diary.repository.mission;
+
+// 상태가 전환되는 미션과 그룹
+public interface MissionGroupId {
+    Long getMissionId();
+
+    Long getGroupId();
+}
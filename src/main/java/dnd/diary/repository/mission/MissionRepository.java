@@ -1,22 +1,70 @@
 package dnd.diary.repository.mission;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import dnd.diary.domain.mission.Mission;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface MissionRepository extends JpaRepository<Mission, Long> {
 
+    // point 가 있는 미션은 SPATIAL 인덱스로, 아직 point 가 없는 미션은 기존 위도/경도 범위 조건으로 조회
     @Query(value = "select * from mission\n" +
-            "where latitude between ?1 and ?2 and longitude between ?3 and ?4 ;",
+            "where MBRContains(ST_GeomFromText(?1), point)\n" +
+            "union all\n" +
+            "select * from mission\n" +
+            "where point is null and latitude between ?2 and ?3 and longitude between ?4 and ?5",
             nativeQuery = true)
-    List<Mission> findWithinMap(Double startX, Double endX, Double startY, Double endY);
+    List<Mission> findWithinMap(String boundingBox, Double startX, Double endX, Double startY, Double endY);
 
     List<Mission> findByGroupId(Long groupId);
 
+    @Query("select m from Mission m join fetch m.missionCreateUser join fetch m.group " +
+            "where m.group.id = :groupId and m.deletedYn = false " +
+            "and m.missionStatus in (dnd.diary.domain.mission.MissionStatus.READY, dnd.diary.domain.mission.MissionStatus.ACTIVE)")
+    List<Mission> findReadyAndActiveMissionListInGroup(@Param("groupId") Long groupId);
+
     Mission findMissionByIdAndDeletedYn(Long missionId, boolean deletedYn);
-}
\ No newline at end of file
+
+    // 시작일이 지난 진행 전 미션 -> 진행 중
+    @Modifying(clearAutomatically = true)
+    @Query("update Mission m set m.missionStatus = dnd.diary.domain.mission.MissionStatus.ACTIVE " +
+            "where m.missionStatus = dnd.diary.domain.mission.MissionStatus.READY and m.deletedYn = false " +
+            "and m.missionStartDate <= :now and (m.missionEndDate is null or m.missionEndDate >= :now)")
+    int updateReadyToActive(@Param("now") LocalDateTime now);
+
+    // 종료일이 지난 진행 전/진행 중 미션 -> 종료
+    @Modifying(clearAutomatically = true)
+    @Query("update Mission m set m.missionStatus = dnd.diary.domain.mission.MissionStatus.FINISH " +
+            "where m.missionStatus in (dnd.diary.domain.mission.MissionStatus.READY, dnd.diary.domain.mission.MissionStatus.ACTIVE) " +
+            "and m.deletedYn = false and m.missionEndDate < :now")
+    int updateToFinish(@Param("now") LocalDateTime now);
+
+    // 상태 전환 대상 - updateReadyToActive / updateToFinish 와 같은 조건, 그룹 미션 캐시 갱신용
+    @Query("select m.id as missionId, m.group.id as groupId from Mission m " +
+            "where m.missionStatus = dnd.diary.domain.mission.MissionStatus.READY and m.deletedYn = false " +
+            "and m.missionStartDate <= :now and (m.missionEndDate is null or m.missionEndDate >= :now)")
+    List<MissionGroupId> findReadyToActive(@Param("now") LocalDateTime now);
+
+    @Query("select m.id as missionId, m.group.id as groupId from Mission m " +
+            "where m.missionStatus in (dnd.diary.domain.mission.MissionStatus.READY, dnd.diary.domain.mission.MissionStatus.ACTIVE) " +
+            "and m.deletedYn = false and m.missionEndDate < :now")
+    List<MissionGroupId> findToFinish(@Param("now") LocalDateTime now);
+
+    // 아직 지나지 않은 기간 경계 - 미션은 날짜 단위이므로 날짜 수만큼만 조회됨
+    @Query("select distinct m.missionStartDate from Mission m " +
+            "where m.missionStatus = dnd.diary.domain.mission.MissionStatus.READY and m.deletedYn = false " +
+            "and m.missionStartDate > :now")
+    List<LocalDateTime> findUpcomingStartDates(@Param("now") LocalDateTime now);
+
+    @Query("select distinct m.missionEndDate from Mission m " +
+            "where m.missionStatus in (dnd.diary.domain.mission.MissionStatus.READY, dnd.diary.domain.mission.MissionStatus.ACTIVE) " +
+            "and m.deletedYn = false and m.missionEndDate >= :now")
+    List<LocalDateTime> findUpcomingEndDates(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,38 @@
+package dnd.diary.repository.mission;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+// IDENTITY 전략이라 JPA 로는 배치 INSERT 가 불가능해 JDBC 배치로 미션 할당 일괄 저장
+// rewriteBatchedStatements=true (application.yml) 로 배치마다 여러 행 INSERT 한 문장으로 전송
+@Repository
+@RequiredArgsConstructor
+public class UserAssignMissionBulkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO user_assign_mission " +
+            "(user_id, mission_id, location_check, content_check, is_complete, deleted) " +
+            "VALUES (?, ?, false, false, false, false)";
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 미션을 여러 유저에게 할당 - 미션 생성 시
+    public void assignMissionToUsers(Long missionId, Collection<Long> userIds) {
+        insert(userIds.stream().map(userId -> new Object[]{userId, missionId}).toList());
+    }
+
+    // 여러 미션을 한 유저에게 할당 - 그룹 가입 시
+    public void assignMissionsToUser(Long userId, Collection<Long> missionIds) {
+        insert(missionIds.stream().map(missionId -> new Object[]{userId, missionId}).toList());
+    }
+
+    private void insert(List<Object[]> batchArgs) {
+        for (int from = 0; from < batchArgs.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs.subList(from, Math.min(from + BATCH_SIZE, batchArgs.size())));
+        }
+    }
+}
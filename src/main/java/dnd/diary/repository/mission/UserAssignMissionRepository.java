@@ -1,12 +1,38 @@
 package dnd.diary.repository.mission;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import dnd.diary.domain.mission.MissionStatus;
 import dnd.diary.domain.mission.UserAssignMission;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface UserAssignMissionRepository extends JpaRepository<UserAssignMission, Long> {
 
     UserAssignMission findByUserIdAndMissionId(Long userId, Long missionId);
+
+    List<UserAssignMission> findByUserIdAndMissionIdIn(Long userId, Collection<Long> missionIds);
+
+    boolean existsByUserIdAndMissionId(Long userId, Long missionId);
+
+    // 완료하지 않은 할당 미션 중 상태가 일치하는 미션 목록 - 미션, 생성자, 그룹을 조인해 한 번에 조회
+    // 생성자가 탈퇴(삭제)된 미션도 목록에서 빠지지 않도록 생성자는 left join
+    @Query("select u.id as userId, u.nickName as userNickname, m.id as missionId, m.missionName as missionName, m.missionNote as missionNote, " +
+            "cu.id as createUserId, cu.nickName as createUserName, cu.profileImageUrl as createUserProfileImageUrl, " +
+            "g.id as groupId, g.groupName as groupName, g.groupImageUrl as groupImageUrl, " +
+            "m.existPeriod as existPeriod, m.missionStartDate as missionStartDate, m.missionEndDate as missionEndDate, " +
+            "m.missionStatus as missionStatus, m.missionLocationName as missionLocationName, " +
+            "m.missionLocationAddress as missionLocationAddress, m.latitude as latitude, m.longitude as longitude, " +
+            "m.missionColor as missionColor, " +
+            "uam.locationCheck as locationCheck, uam.contentCheck as contentCheck, uam.isComplete as isComplete " +
+            "from UserAssignMission uam join uam.user u join uam.mission m left join m.missionCreateUser cu join m.group g " +
+            "where u.id = :userId and uam.isComplete = false and m.deletedYn = false " +
+            "and m.missionStatus in :missionStatuses")
+    List<UserMissionSummary> findIncompleteMissionSummaryList(@Param("userId") Long userId,
+                                                              @Param("missionStatuses") Collection<MissionStatus> missionStatuses);
 }
@@ -0,0 +1,54 @@
+package dnd.diary.repository.mission;
+
+import dnd.diary.domain.mission.MissionStatus;
+
+import java.time.LocalDateTime;
+
+// 유저에게 할당된 미션 목록 조회용 - 유저, 미션, 생성자, 그룹, 달성 현황을 한 번에 조회
+public interface UserMissionSummary {
+    Long getUserId();
+
+    String getUserNickname();
+
+    Long getMissionId();
+
+    String getMissionName();
+
+    String getMissionNote();
+
+    Long getCreateUserId();
+
+    String getCreateUserName();
+
+    String getCreateUserProfileImageUrl();
+
+    Long getGroupId();
+
+    String getGroupName();
+
+    String getGroupImageUrl();
+
+    Boolean getExistPeriod();
+
+    LocalDateTime getMissionStartDate();
+
+    LocalDateTime getMissionEndDate();
+
+    MissionStatus getMissionStatus();
+
+    String getMissionLocationName();
+
+    String getMissionLocationAddress();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    Integer getMissionColor();
+
+    Boolean getLocationCheck();
+
+    Boolean getContentCheck();
+
+    Boolean getIsComplete();
+}
@@ -0,0 +1,22 @@
+package dnd.diary.response.group;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupPageResponse {
+
+	private List<GroupListResponse.GroupInfo> groupInfoList;
+	private boolean hasNext;   // 다음 페이지 존재 여부
+	// 다음 페이지 요청 시 그대로 전달 - 마지막 그룹의 게시물 최신 등록일, 그룹 ID
+	private LocalDateTime nextRecentUpdatedAt;
+	private Long nextGroupId;
+}
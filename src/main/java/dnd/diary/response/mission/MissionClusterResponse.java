@@ -0,0 +1,32 @@
+package dnd.diary.response.mission;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MissionClusterResponse {
+
+    private Boolean clustered;   // false 면 missions 에 개별 미션, true 면 clusters 에 클러스터 목록
+    private List<MissionResponse> missions;
+    private List<ClusterInfo> clusters;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ClusterInfo {
+        private Double latitude;   // 클러스터에 포함된 미션 좌표의 평균
+        private Double longitude;
+        private Long counts;
+        private Long missionId;   // 클러스터 대표 미션 - 종료일이 가장 가까운 미션
+        private Integer missionColor;
+        private String groupImageUrl;   // 대표 미션이 생성된 그룹 이미지
+    }
+}
@@ -7,7 +7,7 @@ import dnd.diary.domain.mission.MissionStatus;
 import lombok.*;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class MissionResponse {
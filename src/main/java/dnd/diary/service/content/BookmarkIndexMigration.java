@@ -0,0 +1,92 @@
+package dnd.diary.service.content;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dnd.diary.config.RedisDao;
+import dnd.diary.config.RedisKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class BookmarkIndexMigration {
+
+    private static final String LEGACY_BOOKMARK_KEY_PREFIX = "bookmark";
+    private static final String MIGRATION_LOCK_KEY = "migration:bookmark-set:lock";
+    private static final String MERGING_KEY_PREFIX = "migration:bookmark-set:merging:";
+    private static final Duration MIGRATION_LOCK_TTL = Duration.ofMinutes(10);
+
+    private final RedisDao redisDao;
+    private final boolean legacyRead;
+
+    // 최근에 LIST 를 합친 사용자 - 이 시간 동안은 조회마다 Redis 를 다시 확인하지 않음
+    // 배포 중 이전 버전이 다시 LIST 에 쓴 북마크는 만료 후 다음 조회에서 합쳐짐
+    private final Cache<String, Boolean> mergedUsers = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public BookmarkIndexMigration(
+            RedisDao redisDao,
+            @Value("${bookmark.legacy-read:true}") boolean legacyRead
+    ) {
+        this.redisDao = redisDao;
+        this.legacyRead = legacyRead;
+    }
+
+    // "bookmark" + email LIST 키를 RedisKey.bookmark(email) SET 키로 옮긴다
+    // 배포 중에는 이전 버전 인스턴스가 LIST 에 계속 쓰므로 완료 표시 없이 기동할 때마다 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateBookmarkList() {
+        // 동시에 기동한 인스턴스 중 한 곳만 실행
+        if (!redisDao.setValuesIfAbsent(MIGRATION_LOCK_KEY, "locked", MIGRATION_LOCK_TTL)) {
+            return;
+        }
+        try {
+            int migratedKeyCount = 0;
+            for (String legacyKey : redisDao.scanKeys(LEGACY_BOOKMARK_KEY_PREFIX + "*")) {
+                // 이미 SET 으로 옮겨진 키나 다른 타입의 키는 제외
+                if (!redisDao.isListType(legacyKey)) {
+                    continue;
+                }
+                if (mergeLegacyKey(legacyKey, legacyKey.substring(LEGACY_BOOKMARK_KEY_PREFIX.length()))) {
+                    migratedKeyCount++;
+                }
+            }
+            log.info("[북마크 인덱스 마이그레이션] LIST -> SET 변환 키 수 : {}", migratedKeyCount);
+        } finally {
+            redisDao.deleteValues(MIGRATION_LOCK_KEY);
+        }
+    }
+
+    // 조회 전에 호출 - 이전 버전 인스턴스가 기동 후에 LIST 로 남긴 북마크도 함께 읽히도록 SET 에 합침
+    // 이전 버전이 모두 내려가면 bookmark.legacy-read=false 로 끔
+    public void mergeLegacyList(String email) {
+        if (!legacyRead || mergedUsers.getIfPresent(email) != null) {
+            return;
+        }
+        mergeLegacyKey(LEGACY_BOOKMARK_KEY_PREFIX + email, email);
+        mergedUsers.put(email, Boolean.TRUE);
+    }
+
+    // 임시 키로 이름을 바꾼 뒤 옮김 - 옮기는 도중 이전 버전이 쓴 값은 새 LIST 로 남아 다음에 합쳐짐
+    private boolean mergeLegacyKey(String legacyKey, String email) {
+        String mergingKey = MERGING_KEY_PREFIX + UUID.randomUUID();
+        if (!redisDao.renameKeyIfExists(legacyKey, mergingKey)) {
+            return false;
+        }
+        List<String> contentIdList = redisDao.getValuesList(mergingKey);
+        if (!contentIdList.isEmpty()) {
+            redisDao.setValuesSet(RedisKey.bookmark(email), contentIdList.toArray(String[]::new));
+        }
+        redisDao.deleteValues(mergingKey);
+        return true;
+    }
+}
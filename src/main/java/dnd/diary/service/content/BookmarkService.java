@@ -1,9 +1,10 @@
 package dnd.diary.service.content;
 
+import dnd.diary.config.Jwt.SecurityUtil;
 import dnd.diary.config.RedisDao;
+import dnd.diary.config.RedisKey;
 import dnd.diary.domain.bookmark.Bookmark;
 import dnd.diary.domain.content.Content;
-import dnd.diary.domain.user.User;
 import dnd.diary.dto.content.BookmarkDto;
 import dnd.diary.enumeration.Result;
 import dnd.diary.exception.CustomException;
@@ -12,14 +13,11 @@ import dnd.diary.repository.content.BookmarkRepository;
 import dnd.diary.repository.content.ContentRepository;
 import dnd.diary.response.CustomResponseEntity;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class BookmarkService {
@@ -27,34 +25,33 @@ public class BookmarkService {
     private final ContentRepository contentRepository;
     private final BookmarkRepository bookmarkRepository;
     private final RedisDao redisDao;
+    private final BookmarkIndexMigration bookmarkIndexMigration;
 
     @Transactional
-    @CacheEvict(value = "Contents", key = "#contentId", cacheManager = "testCacheManager")
     public CustomResponseEntity<BookmarkDto.addBookmarkDto> bookmarkAdd(
             UserDetails userDetails, Long contentId
     ) {
+        Long userId = getUserId(userDetails);
         Bookmark bookmark = bookmarkRepository.findByUserIdAndContentId(
-                getUser(userDetails).getId(), contentId
+                userId, contentId
         );
 
-        String redisUserKey = "bookmark" + userDetails.getUsername();
+        String redisUserKey = RedisKey.bookmark(userDetails.getUsername());
+        bookmarkIndexMigration.mergeLegacyList(userDetails.getUsername());
         // 이미 북마크를 등록했다면
         if (bookmark != null){
             bookmarkRepository.delete(bookmark);
-            List<String> valuesList = redisDao.getValuesList(redisUserKey);
-            redisDao.deleteValues(redisUserKey);
-            valuesList.remove(contentId.toString());
-            valuesList.forEach(s -> redisDao.setValuesList(redisUserKey,s));
+            redisDao.deleteValuesSet(redisUserKey, contentId.toString());
             return CustomResponseEntity.successDeleteBookmark();
         } else {
             // 북마크 추가
-            redisDao.setValuesList(redisUserKey, String.valueOf(contentId));
+            redisDao.setValuesSet(redisUserKey, String.valueOf(contentId));
             return CustomResponseEntity.success(
                     BookmarkDto.addBookmarkDto.response(
                             bookmarkRepository.save(
                                     Bookmark.builder()
                                             .content(getContent(contentId))
-                                            .user(getUser(userDetails))
+                                            .user(userRepository.getReferenceById(userId))
                                             .build()
                             )
                     )
@@ -71,11 +68,11 @@ public class BookmarkService {
         return content;
     }
 
-    private User getUser(UserDetails userDetails) {
-        User user = userRepository.findOneWithAuthoritiesByEmail(userDetails.getUsername())
-                .orElseThrow(
-                        () -> new CustomException(Result.FAIL)
-                );
-        return user;
+    // 토큰의 유저 ID - 유저 ID 가 없는 이전 토큰만 이메일로 조회
+    private Long getUserId(UserDetails userDetails) {
+        return SecurityUtil.getUserId(userDetails)
+                .orElseGet(() -> userRepository.findOneWithAuthoritiesByEmail(userDetails.getUsername())
+                        .orElseThrow(() -> new CustomException(Result.FAIL))
+                        .getId());
     }
 }
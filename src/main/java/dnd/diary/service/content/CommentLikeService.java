@@ -1,10 +1,10 @@
 package dnd.diary.service.content;
 
+import dnd.diary.config.Jwt.SecurityUtil;
 import dnd.diary.domain.comment.Comment;
 import dnd.diary.domain.comment.CommentLike;
 import dnd.diary.domain.group.Notification;
 import dnd.diary.domain.group.NotificationType;
-import dnd.diary.domain.user.User;
 import dnd.diary.dto.content.CommentLikeDto;
 import dnd.diary.enumeration.Result;
 import dnd.diary.exception.CustomException;
@@ -32,22 +32,23 @@ public class CommentLikeService {
     ) {
         validateCommentLikeSave(commentId);
 
-        User user = getUser(userDetails);
+        // 유저는 연관관계 설정에만 필요하므로 조회하지 않고 ID 로 참조
+        Long userId = getUserId(userDetails);
         CommentLike existsLike =
-                commentLikeRepository.findByCommentIdAndUserId(commentId, user.getId());
+                commentLikeRepository.findByCommentIdAndUserId(commentId, userId);
 
         // 최초 좋아요 등록일 경우
         if (existsLike == null){
             Comment targetComment = getComment(commentId);
             CommentLike commentLike = CommentLike.builder()
                 .comment(targetComment)
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .commentLikeYn(true)
                 .build();
             commentLikeRepository.save(commentLike);
 
             // 자신의 댓글이 아닌 경우에 댓글 좋아요 알림 추가
-            if (!user.getId().equals(targetComment.getUser().getId())) {
+            if (!userId.equals(targetComment.getUser().getId())) {
                 Notification notification = Notification.toCommentLikeEntity(targetComment, commentLike, targetComment.getUser(), NotificationType.COMMENT_LIKE);
                 notificationRepository.save(notification);
 
@@ -83,12 +84,12 @@ public class CommentLikeService {
         }
     }
 
-    private User getUser(UserDetails userDetails) {
-        User user = userRepository.findOneWithAuthoritiesByEmail(userDetails.getUsername())
-                .orElseThrow(
-                        () -> new CustomException(Result.FAIL)
-                );
-        return user;
+    // 토큰의 유저 ID - 유저 ID 가 없는 이전 토큰만 이메일로 조회
+    private Long getUserId(UserDetails userDetails) {
+        return SecurityUtil.getUserId(userDetails)
+                .orElseGet(() -> userRepository.findOneWithAuthoritiesByEmail(userDetails.getUsername())
+                        .orElseThrow(() -> new CustomException(Result.FAIL))
+                        .getId());
     }
 
     // validate
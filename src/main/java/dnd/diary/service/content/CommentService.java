@@ -1,5 +1,6 @@
 package dnd.diary.service.content;
 
+import dnd.diary.config.Jwt.SecurityUtil;
 import dnd.diary.domain.comment.Comment;
 import dnd.diary.domain.comment.CommentLike;
 import dnd.diary.domain.content.Content;
@@ -9,7 +10,6 @@ import dnd.diary.domain.group.Notification;
 import dnd.diary.domain.group.NotificationType;
 
 import dnd.diary.domain.sticker.Sticker;
-import dnd.diary.domain.user.User;
 import dnd.diary.dto.content.CommentDto;
 import dnd.diary.dto.content.ContentDto;
 import dnd.diary.enumeration.Result;
@@ -59,9 +59,11 @@ public class CommentService {
                     );
         }
 
+        // 유저는 연관관계 설정에만 필요하므로 조회하지 않고 ID 로 참조
+        Long userId = getUserId(userDetails);
         Comment comment = Comment.builder()
             .commentNote(request.getCommentNote())
-            .user(getUser(userDetails))
+            .user(userRepository.getReferenceById(userId))
             .content(getContent(contentId))
             .sticker(sticker)
             .deletedYn(false)
@@ -71,7 +73,7 @@ public class CommentService {
 
         // 자신을 제외한 게시물 생성자에게 알림 생성
         Content content = getContent(contentId);
-        if (!comment.getUser().getId().equals(content.getUser().getId())) {
+        if (!userId.equals(content.getUser().getId())) {
             Notification notification = Notification.toContentCommentEntity(
                     content, comment, content.getUser(), NotificationType.CONTENT_COMMENT);
             notificationRepository.save(notification);
@@ -99,24 +101,26 @@ public class CommentService {
     }
 
     private Page<CommentDto.pageCommentDto> getPageCommentDtos(UserDetails userDetails, Page<Comment> comments) {
+        Long userId = getUserId(userDetails);
         return comments.map((Comment comment) -> CommentDto.pageCommentDto.response(
                         comment,
                         commentLikeRepository.existsByCommentIdAndUserIdAndCommentLikeYn(
-                            comment.getId(), getUser(userDetails).getId(), true
+                            comment.getId(), userId, true
                         ),
                         // commentLikeRepository.existsByCommentIdAndUserId(
                         //         comment.getId(), getUser(userDetails).getId()
                         // ),
-                        getUser(userDetails).getId()
+                        userId
                 )
         );
     }
 
-    private User getUser(UserDetails userDetails) {
-        return userRepository.findOneWithAuthoritiesByEmail(userDetails.getUsername())
-                .orElseThrow(
-                        () -> new CustomException(Result.NOT_FOUND_USER)
-                );
+    // 토큰의 유저 ID - 유저 ID 가 없는 이전 토큰만 이메일로 조회
+    private Long getUserId(UserDetails userDetails) {
+        return SecurityUtil.getUserId(userDetails)
+                .orElseGet(() -> userRepository.findOneWithAuthoritiesByEmail(userDetails.getUsername())
+                        .orElseThrow(() -> new CustomException(Result.NOT_FOUND_USER))
+                        .getId());
     }
 
     private Content getContent(Long contentId) {
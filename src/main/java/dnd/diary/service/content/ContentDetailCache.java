@@ -0,0 +1,39 @@
+package dnd.diary.service.content;
+
+import dnd.diary.domain.content.Content;
+import dnd.diary.dto.content.ContentDto;
+import dnd.diary.enumeration.Result;
+import dnd.diary.exception.CustomException;
+import dnd.diary.repository.content.ContentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ContentDetailCache {
+    private final ContentRepository contentRepository;
+
+    // 사용자와 무관한 게시물 정보(본문, 이미지, 작성자, 그룹)만 캐시 - 조회수, 북마크, 공감 상태는 요청 시점에 덧씌움
+    @Transactional(readOnly = true)
+    @Cacheable(value = "Contents", key = "#contentId", cacheManager = "testCacheManager")
+    public ContentDto.detailDto getContentDetail(Long contentId) {
+        Content content = contentRepository.findById(contentId)
+                .orElseThrow(
+                        () -> new CustomException(Result.NOT_FOUND_CONTENT)
+                );
+        // 이미 삭제된 게시물일 경우
+        if (content.isDeletedYn()) {
+            throw new CustomException(Result.NOT_FOUND_CONTENT);
+        }
+
+        return ContentDto.detailDto.response(
+                content,
+                content.getContentImages()
+                        .stream()
+                        .map(ContentDto.ImageResponseDto::detailResponse)
+                        .toList()
+        );
+    }
+}
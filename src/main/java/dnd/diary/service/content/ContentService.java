@@ -1,13 +1,11 @@
 package dnd.diary.service.content;
 
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.DeleteObjectRequest;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
+import dnd.diary.config.Jwt.SecurityUtil;
+import dnd.diary.config.FullTextQuery;
 import dnd.diary.config.GeometryUtil;
-import dnd.diary.config.Location;
+import dnd.diary.config.MapCluster;
 import dnd.diary.config.RedisDao;
+import dnd.diary.config.RedisKey;
 import dnd.diary.domain.content.Content;
 import dnd.diary.domain.content.ContentImage;
 import dnd.diary.domain.content.Emotion;
@@ -24,32 +22,32 @@ import dnd.diary.repository.group.GroupRepository;
 import dnd.diary.repository.group.UserJoinGroupRepository;
 import dnd.diary.repository.user.UserRepository;
 import dnd.diary.response.CustomResponseEntity;
+import dnd.diary.service.s3.S3UploadPipeline;
+import dnd.diary.service.s3.S3UploadPipeline.UploadedImage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.server.ResponseStatusException;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -57,16 +55,19 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ContentService {
     private final RedisDao redisDao;
+    private final ContentViewCounter contentViewCounter;
+    private final ContentDetailCache contentDetailCache;
+    private final BookmarkIndexMigration bookmarkIndexMigration;
     private final ContentRepository contentRepository;
     private final UserRepository userRepository;
     private final GroupRepository groupRepository;
     private final ContentImageRepository contentImageRepository;
     private final EmotionRepository emotionRepository;
     private final UserJoinGroupRepository userJoinGroupRepository;
-    private final AmazonS3Client amazonS3Client;
+    private final S3UploadPipeline s3UploadPipeline;
     private final EntityManager em;
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+
+    private final int MAP_CLUSTER_THRESHOLD = 100;   // 지도 범위 내 게시물이 이보다 많으면 클러스터로 조회
 
     @Transactional
     public Page<ContentDto.groupListPagePostsDto> groupListContent(
@@ -78,24 +79,7 @@ public class ContentService {
                 groupId, false, PageRequest.of(page - 1, 10, Sort.Direction.DESC, "createdAt")
         );
 
-        User user = getUser(userDetails);
-
-        return contents.map(
-                (Content content) -> {
-                    Emotion findEmotionStatus = emotionRepository.findByContentIdAndUserIdAndEmotionYn(content.getId(), user.getId(), true);
-                    Long emotionStatus = findEmotionStatus == null ? -1 : findEmotionStatus.getEmotionStatus();
-                    Boolean myBookmarkStatus = redisDao.getValuesList("bookmark" + userDetails.getUsername())
-                            .contains(content.getId().toString());
-                    String views = redisDao.getValues(content.getId().toString());
-
-                    return ContentDto.groupListPagePostsDto.response(
-                            content,
-                            emotionStatus,
-                            views,
-                            myBookmarkStatus
-                    );
-                }
-        );
+        return assembleFeedPage(contents, getUserId(userDetails), userDetails.getUsername());
     }
 
     @Transactional
@@ -108,29 +92,12 @@ public class ContentService {
                 groupId, false, PageRequest.of(page - 1, 10, Sort.Direction.DESC, "createdAt")
         );
 
-        User user = getUser(userDetails);
-
-        return contents.map(
-                (Content content) -> {
-                    Emotion findEmotionStatus = emotionRepository.findByContentIdAndUserIdAndEmotionYn(content.getId(), user.getId(), true);
-                    Long emotionStatus = findEmotionStatus == null ? -1 : findEmotionStatus.getEmotionStatus();
-                    Boolean myBookmarkStatus = redisDao.getValuesList("bookmark" + userDetails.getUsername())
-                            .contains(content.getId().toString());
-                    String views = redisDao.getValues(content.getId().toString());
-
-                    return ContentDto.groupListPagePostsDto.response(
-                            content,
-                            emotionStatus,
-                            views,
-                            myBookmarkStatus
-                    );
-                }
-        );
+        return assembleFeedPage(contents, getUserId(userDetails), userDetails.getUsername());
     }
 
     @Transactional
     public ContentDto.CreateDto createContent(
-            UserDetails userDetails, List<MultipartFile> multipartFile, Long groupId,
+            UserDetails userDetails, List<UploadedImage> uploadedImages, Long groupId,
             String contentNote, Double latitude, Double longitude, String location
     ) throws ParseException {
 
@@ -141,6 +108,7 @@ public class ContentService {
                         .content(contentNote)// 이미 삭제된 게시물일 경우
                         .latitude(latitude)
                         .longitude(longitude)
+                        .point(GeometryUtil.toPoint(latitude, longitude))
                         .location(location)
                         .views(0L)
                         .contentLink("test")
@@ -150,56 +118,42 @@ public class ContentService {
                         .build()
         );
 
-        if (multipartFile != null) {
-            content.updateContentImages(uploadFiles(multipartFile, content));
+        if (uploadedImages != null && !uploadedImages.isEmpty()) {
+            content.updateContentImages(saveContentImages(uploadedImages, content));
         }
 
         group.updateRecentModifiedAt();
-        redisDao.setValues(content.getId().toString(), "0");
+        contentViewCounter.initViews(content);
 
         return ContentDto.CreateDto.response(content);
     }
 
     @Transactional
-    @Cacheable(value = "Contents", key = "#contentId", cacheManager = "testCacheManager")
     public ContentDto.detailDto detailContent(UserDetails userDetails, Long contentId) {
-        Content content = getContent(contentId);
+        // 게시물 정보는 캐시에서, 사용자별 상태와 조회수는 매 요청마다 조회
+        ContentDto.detailDto detail = contentDetailCache.getContentDetail(contentId);
 
-        String redisKey = contentId.toString();
-        String redisUserKey = getUser(userDetails).getNickName();
-        String values = redisDao.getValues(redisKey);
-        int views = Integer.parseInt(values);
+        Long userId = getUserId(userDetails);
+        long views = contentViewCounter.increaseViews(contentId, detail.getViews(), userId);
 
-        if (!redisDao.getValuesList(redisUserKey).contains(redisKey)) {
-            redisDao.setValuesList(redisUserKey, redisKey);
-            views = Integer.parseInt(values) + 1;
-            redisDao.setValues(redisKey, String.valueOf(views));
-        }
+        bookmarkIndexMigration.mergeLegacyList(userDetails.getUsername());
+        boolean bookmarkAddStatus = redisDao.isMemberSet(RedisKey.bookmark(userDetails.getUsername()), contentId.toString());
 
-        List<String> bookmarkStatusList = redisDao.getValuesList("bookmark" + userDetails.getUsername());
-        boolean bookmarkAddStatus = bookmarkStatusList.contains(contentId.toString());
-
-        Emotion findEmotionStatus = emotionRepository.findByContentIdAndUserIdAndEmotionYn(content.getId(), getUser(userDetails).getId(), true);
+        Emotion findEmotionStatus = emotionRepository.findByContentIdAndUserIdAndEmotionYn(contentId, userId, true);
         Long emotionStatus = findEmotionStatus == null ? -1 : findEmotionStatus.getEmotionStatus();
 
-        return ContentDto.detailDto.response(
-                content,
-                views,
-                getContentImageResponse(content),
-                bookmarkAddStatus,
-                emotionStatus
-        );
+        return ContentDto.detailDto.response(detail, views, bookmarkAddStatus, emotionStatus);
     }
 
     @Transactional
     @CacheEvict(value = "Contents", key = "#contentId", cacheManager = "testCacheManager")
     public ContentDto.UpdateDto updateContent(
-            UserDetails userDetails, List<MultipartFile> multipartFile, Long contentId,
+            UserDetails userDetails, List<UploadedImage> uploadedImages, Long contentId,
             String contentNote, Double latitude, Double longitude, String location
     ) {
         validateUpdateContent(contentId);
         Content content = existsContentAndUser(
-                contentId, getUser(userDetails).getId()
+                contentId, getUserId(userDetails)
         );
 
         // 이미 삭제 처리된 게시물일 경우
@@ -208,35 +162,35 @@ public class ContentService {
         }
 
         List<ContentImage> contentImages = deleteAndSaveContentImage(
-                multipartFile, contentImageRepository.findImageNameList(contentId), content
+                uploadedImages, contentImageRepository.findImageNameList(contentId), content
         );
 
-        content.updateContent(contentNote, latitude, longitude, location, contentImages);
+        content.updateContent(contentNote, latitude, longitude, GeometryUtil.toPoint(latitude, longitude), location, contentImages);
 
         List<ContentDto.ImageResponseDto> collect = null;
 
         if(content.getContentImages() != null){
             collect = content.getContentImages()
                     .stream()
-                    .map(ContentDto.ImageResponseDto::response).toList();
+                    .map(ContentDto.ImageResponseDto::detailResponse).toList();
         }
 
-        String redisKey = content.getId().toString();
         return ContentDto.UpdateDto.response(
                 content,
-                Integer.parseInt(redisDao.getValues(redisKey)),
+                contentViewCounter.getViews(content),
                 collect
         );
     }
 
     @Transactional
+    @CacheEvict(value = "Contents", key = "#contentId", cacheManager = "testCacheManager")
     public CustomResponseEntity<ContentDto.deleteContent> deleteContent(
             UserDetails userDetails, Long contentId
     ) {
 //        contentRepository.delete(
 //                existsContentAndUser(contentId, getUser(userDetails).getId())
 //        );
-        Content content = existsContentAndUser(contentId, getUser(userDetails).getId());
+        Content content = existsContentAndUser(contentId, getUserId(userDetails));
         content.deleteContent();   // 게시물 삭제 시 상태값만 변경
         return CustomResponseEntity.successDeleteContent();
     }
@@ -244,24 +198,88 @@ public class ContentService {
     @Transactional
     public List<ContentDto.mapListContent> listMyMap(UserDetails userDetails, Double startLatitude, Double startLongitude, Double endLatitude, Double endLongitude) {
 
-        List<Long> groupIdList = userJoinGroupRepository.findGroupIdList(getUser(userDetails).getId());
+        List<Long> groupIdList = userJoinGroupRepository.findGroupIdList(getUserId(userDetails));
         List<Content> contents = contentRepository.findByMapList(
-                groupIdList, endLatitude, startLatitude, startLongitude, endLongitude);
+                groupIdList,
+                GeometryUtil.toBoundingBox(startLatitude, startLongitude, endLatitude, endLongitude),
+                Math.min(startLatitude, endLatitude), Math.max(startLatitude, endLatitude),
+                Math.min(startLongitude, endLongitude), Math.max(startLongitude, endLongitude)
+        );
 
-        return contents.stream()
-                .filter(content -> !content.isDeletedYn())
+        return toMapListContents(
+                contents.stream().filter(content -> !content.isDeletedYn()).toList(),
+                groupIdList
+        );
+    }
+
+    // 지도 범위 내 게시물이 많으면 확대 수준에 맞춰 묶은 클러스터로 조회
+    @Transactional
+    public ContentDto.mapClusterListContent clusterMyMap(
+            UserDetails userDetails, Double startLatitude, Double startLongitude,
+            Double endLatitude, Double endLongitude, Integer zoom
+    ) {
+        List<Long> groupIdList = userJoinGroupRepository.findGroupIdList(getUserId(userDetails));
+        List<Content> contents = contentRepository.findByMapList(
+                groupIdList,
+                GeometryUtil.toBoundingBox(startLatitude, startLongitude, endLatitude, endLongitude),
+                Math.min(startLatitude, endLatitude), Math.max(startLatitude, endLatitude),
+                Math.min(startLongitude, endLongitude), Math.max(startLongitude, endLongitude)
+        ).stream().filter(content -> !content.isDeletedYn()).toList();
+
+        if (contents.size() <= MAP_CLUSTER_THRESHOLD) {
+            return ContentDto.mapClusterListContent.contents(toMapListContents(contents, groupIdList));
+        }
+
+        List<MapCluster<Content>> clusters = MapCluster.cluster(contents, Content::getLatitude, Content::getLongitude, zoom);
+
+        // 클러스터마다 가장 최근 게시물을 대표로, 대표 게시물의 첫 번째 이미지를 썸네일로 사용
+        List<Content> representatives = clusters.stream()
+                .map(cluster -> cluster.getItems().stream().max(Comparator.comparing(Content::getId)).orElseThrow())
+                .toList();
+        Map<Long, ContentImage> thumbnailMap = new HashMap<>();
+        if (!representatives.isEmpty()) {
+            contentImageRepository.findByContentIdInOrderByIdAsc(representatives.stream().map(Content::getId).toList())
+                    .forEach(contentImage -> thumbnailMap.putIfAbsent(contentImage.getContent().getId(), contentImage));
+        }
+
+        List<ContentDto.mapClusterContent> clusterResponses = new ArrayList<>();
+        for (int i = 0; i < clusters.size(); i++) {
+            MapCluster<Content> cluster = clusters.get(i);
+            Content representative = representatives.get(i);
+            clusterResponses.add(ContentDto.mapClusterContent.response(
+                    cluster.getLatitude(), cluster.getLongitude(), cluster.getCount(),
+                    representative, thumbnailMap.get(representative.getId())
+            ));
+        }
+        return ContentDto.mapClusterListContent.clusters(clusterResponses);
+    }
+
+    private List<ContentDto.mapListContent> toMapListContents(List<Content> visibleContents, List<Long> groupIdList) {
+        if (visibleContents.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 장소별 게시물 수와 이미지를 게시물마다 조회하지 않고 한 번에 조회
+        Map<String, Long> locationCountMap = countByLocation(visibleContents, groupIdList);
+        Map<Long, List<ContentDto.ImageResponseDto>> imageMap = contentImageRepository
+                .findByContentIdInOrderByIdAsc(visibleContents.stream().map(Content::getId).toList())
+                .stream()
+                .map(ContentDto.ImageResponseDto::response)
+                .collect(Collectors.groupingBy(ContentDto.ImageResponseDto::getContentId));
+
+        return visibleContents.stream()
                 .map((Content content) ->
                         ContentDto.mapListContent.response(
                                 content,
-                                getContentImageResponse(content),
-                                contentRepository.countByLocationAndGroupIdInAndDeletedYn(content.getLocation(),groupIdList,false)
+                                imageMap.getOrDefault(content.getId(), new ArrayList<>()),
+                                locationCountMap.getOrDefault(content.getLocation(), 0L)
                         )
                 ).toList();
     }
 
     @Transactional
     public List<ContentDto.mapListContentDetail> listDetailMyMap(String location, UserDetails userDetails) {
-        List<Long> groupId = userJoinGroupRepository.findGroupIdList(getUser(userDetails).getId());
+        List<Long> groupId = userJoinGroupRepository.findGroupIdList(getUserId(userDetails));
         List<Content> contentList = contentRepository.findByLocationAndGroupIdInAndDeletedYn(location, groupId, false);
         return contentList.stream()
                 .filter(content -> !content.isDeletedYn())   // 삭제 처리되지 않은 게시물만 조회
@@ -277,10 +295,11 @@ public class ContentService {
     public CustomResponseEntity<Page<ContentDto.ContentSearchDto>> contentSearch(
             List<Long> groupId, String word, Integer page
     ) {
-        // 삭제 처리되지 않은 게시물만 조회
-        Page<Content> contentPage = contentRepository
-                .findByContentContainingAndGroupIdInAndDeletedYn(
-                        word, groupId, false, PageRequest.of(page - 1, 10, Sort.Direction.DESC, "createdAt")
+        // 삭제 처리되지 않은 게시물만 조회 - FULLTEXT 인덱스로 관련도 순 검색, 짧은 검색어는 최신순 LIKE 검색
+        Page<Content> contentPage = FullTextQuery.isSearchable(word)
+                ? contentRepository.searchByFullText(FullTextQuery.toBooleanQuery(word), groupId, PageRequest.of(page - 1, 10))
+                : contentRepository.findByContentContainingAndGroupIdInAndDeletedYn(
+                        word.trim(), groupId, false, PageRequest.of(page - 1, 10, Sort.Direction.DESC, "createdAt")
                 );
 
         return CustomResponseEntity.success(
@@ -294,6 +313,52 @@ public class ContentService {
 
 
     // method
+    // 피드 한 페이지에 필요한 공감 상태, 북마크 여부, 조회수를 게시물마다 조회하지 않고 페이지 단위로 한 번에 조회
+    private Page<ContentDto.groupListPagePostsDto> assembleFeedPage(Page<Content> contents, Long userId, String username) {
+        List<Long> contentIdList = contents.map(Content::getId).getContent();
+
+        Map<Long, Long> emotionStatusMap = new HashMap<>();
+        Map<Long, Long> viewsMap = contentViewCounter.getViewsMap(contents.getContent());
+        Set<String> bookmarkSet = new HashSet<>();
+
+        if (!contentIdList.isEmpty()) {
+            List<String> contentKeyList = contentIdList.stream().map(String::valueOf).toList();
+
+            emotionRepository.findByContentIdInAndUserIdAndEmotionYn(contentIdList, userId, true)
+                    .forEach(emotion -> emotionStatusMap.put(emotion.getContent().getId(), emotion.getEmotionStatus()));
+
+            bookmarkIndexMigration.mergeLegacyList(username);
+            bookmarkSet.addAll(redisDao.filterMembersSet(RedisKey.bookmark(username), contentKeyList));
+        }
+
+        return contents.map(
+                (Content content) -> ContentDto.groupListPagePostsDto.response(
+                        content,
+                        emotionStatusMap.getOrDefault(content.getId(), -1L),
+                        viewsMap.get(content.getId()),
+                        bookmarkSet.contains(content.getId().toString())
+                )
+        );
+    }
+
+    private Map<String, Long> countByLocation(List<Content> contents, List<Long> groupIdList) {
+        Map<String, Long> locationCountMap = new HashMap<>();
+        Set<String> locations = contents.stream()
+                .map(Content::getLocation)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (!locations.isEmpty()) {
+            contentRepository.countGroupByLocation(locations, groupIdList)
+                    .forEach(count -> locationCountMap.put(count.getLocation(), count.getContentCount()));
+        }
+        // 장소가 없는 게시물은 IN 조건에 포함되지 않으므로 따로 집계
+        if (contents.stream().anyMatch(content -> content.getLocation() == null)) {
+            locationCountMap.put(null, contentRepository.countByLocationAndGroupIdInAndDeletedYn(null, groupIdList, false));
+        }
+        return locationCountMap;
+    }
+
     private List<ContentDto.ImageResponseDto> getContentImageResponse(Content content) {
         return content.getContentImages()
                 .stream()
@@ -301,21 +366,19 @@ public class ContentService {
                 .toList();
     }
 
-    private List<ContentImage> uploadFiles(List<MultipartFile> multipartFile, Content content) {
-        List<ContentImage> contentImages = new ArrayList<>();
-
-        multipartFile.forEach(file -> {
-            String fileName = saveImage(file);
-            ContentImage contentSaveImage = contentImageRepository.save(
-                    ContentImage.builder()
-                            .content(content)
-                            .imageName(fileName)
-                            .imageUrl(amazonS3Client.getUrl(bucket, fileName).toString())
-                            .build()
-            );
-            contentImages.add(contentSaveImage);
-        });
-        return contentImages;
+    // 업로드가 끝난 이미지만 저장 - S3 전송은 트랜잭션 밖에서 완료됨
+    private List<ContentImage> saveContentImages(List<UploadedImage> uploadedImages, Content content) {
+        return contentImageRepository.saveAll(
+                uploadedImages.stream()
+                        .map(uploadedImage -> ContentImage.builder()
+                                .content(content)
+                                .imageName(uploadedImage.fileName())
+                                .imageUrl(uploadedImage.fileUrl())
+                                .thumbnailUrl(uploadedImage.thumbnailUrl())
+                                .largeUrl(uploadedImage.largeUrl())
+                                .build())
+                        .toList()
+        );
     }
 
     private Content existsContentAndUser(Long contentId, Long userId) {
@@ -325,38 +388,6 @@ public class ContentService {
                 );
     }
 
-    private String saveImage(MultipartFile file) {
-        String fileName = createFileName(file.getOriginalFilename());
-        ObjectMetadata objectMetadata = new ObjectMetadata();
-        objectMetadata.setContentLength(file.getSize());
-        objectMetadata.setContentType(file.getContentType());
-
-        try (InputStream inputStream = file.getInputStream()) {
-            amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-                    .withCannedAcl(CannedAccessControlList.PublicRead));
-
-        } catch (IOException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다.");
-        }
-        return fileName;
-    }
-
-    public void deleteFile(String fileName) {
-        amazonS3Client.deleteObject(new DeleteObjectRequest(bucket, fileName));
-    }
-
-    private String createFileName(String fileName) {
-        return UUID.randomUUID().toString().concat(getFileExtension(fileName));
-    }
-
-    private String getFileExtension(String fileName) {
-        try {
-            return fileName.substring(fileName.lastIndexOf("."));
-        } catch (StringIndexOutOfBoundsException e) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 형식의 파일(" + fileName + ") 입니다.");
-        }
-    }
-
     private Group getGroup(Long groupId) {
         return groupRepository.findById(groupId)
                 .orElseThrow(
@@ -364,29 +395,24 @@ public class ContentService {
                 );
     }
 
+    // 토큰의 유저 ID - 유저 ID 가 없는 이전 토큰만 이메일로 조회
+    private Long getUserId(UserDetails userDetails) {
+        return SecurityUtil.getUserId(userDetails).orElseGet(() -> getUser(userDetails).getId());
+    }
+
+    // 작성자 정보(닉네임, 프로필)가 응답에 필요한 경우에만 조회
     private User getUser(UserDetails userDetails) {
-        User user = userRepository.findOneWithAuthoritiesByEmail(userDetails.getUsername())
+        User user = SecurityUtil.getUserId(userDetails).flatMap(userRepository::findById)
+                .or(() -> userRepository.findOneWithAuthoritiesByEmail(userDetails.getUsername()))
                 .orElseThrow(
                         () -> new CustomException(Result.FAIL)
                 );
         return user;
     }
 
-    private Content getContent(Long contentId) {
-        Content content = contentRepository.findById(contentId)
-                .orElseThrow(
-                        () -> new CustomException(Result.NOT_FOUND_CONTENT)
-                );
-        // 이미 삭제된 게시물일 경우
-        if (content.isDeletedYn()) {
-            throw new CustomException(Result.NOT_FOUND_CONTENT);
-        }
-        return content;
-    }
-
-    private List<ContentImage> deleteAndSaveContentImage(List<MultipartFile> multipartFile, List<String> deleteContentImageName, Content content) {
+    private List<ContentImage> deleteAndSaveContentImage(List<UploadedImage> uploadedImages, List<String> deleteContentImageName, Content content) {
         if (deleteContentImageName != null) {
-            deleteContentImageName.forEach(this::deleteFile);
+            s3UploadPipeline.deleteAfterCommit(deleteContentImageName);
             deleteContentImageName.forEach(imageName ->
                     contentImageRepository.delete(contentImageRepository.findByImageName(imageName)
                             .orElseThrow(
@@ -396,9 +422,8 @@ public class ContentService {
             );
         }
 
-        if (multipartFile != null) {
-            List<ContentImage> contentImages = uploadFiles(multipartFile, content);
-            return contentImages;
+        if (uploadedImages != null && !uploadedImages.isEmpty()) {
+            return saveContentImages(uploadedImages, content);
         }
         return null;
     }
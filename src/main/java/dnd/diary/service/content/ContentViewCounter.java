@@ -0,0 +1,143 @@
+package dnd.diary.service.content;
+
+import dnd.diary.config.RedisDao;
+import dnd.diary.config.RedisKey;
+import dnd.diary.domain.content.Content;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class ContentViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE content SET views = GREATEST(views, ?) WHERE content_id = ?";
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofMinutes(5);
+
+    private final RedisDao redisDao;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration viewerTtl;
+
+    public ContentViewCounter(
+            RedisDao redisDao,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${content.views.viewer-ttl-days:7}") long viewerTtlDays
+    ) {
+        this.redisDao = redisDao;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.viewerTtl = Duration.ofDays(viewerTtlDays);
+    }
+
+    public void initViews(Content content) {
+        redisDao.setValues(RedisKey.views(content.getId()), String.valueOf(content.getViews()));
+    }
+
+    // 사용자별로 한 번만 조회수 증가 - INCR 로 증가시켜 동시 조회 시에도 누락되지 않도록
+    public long increaseViews(Content content, Long userId) {
+        return increaseViews(content.getId(), content.getViews(), userId);
+    }
+
+    // 캐시된 게시물 정보로 조회하는 경우 - savedViews 는 카운터가 없을 때 이어서 증가할 DB 조회수
+    // 조회자 SET 은 새 조회자가 없는 상태로 viewerTtl 이 지나면 만료 - 그 뒤의 재조회는 다시 집계
+    public long increaseViews(Long contentId, long savedViews, Long userId) {
+        String viewersKey = RedisKey.contentViewers(contentId);
+        Long addedViewer = redisDao.setValuesSet(viewersKey, String.valueOf(userId));
+        if (addedViewer == null || addedViewer == 0) {
+            return getViews(contentId, savedViews);
+        }
+
+        String viewsKey = RedisKey.views(contentId);
+        List<Object> results = redisDao.executePipelined(operations -> {
+            operations.expire(viewersKey, viewerTtl);
+            // 카운터가 없는 경우 DB 값에서 이어서 증가
+            operations.opsForValue().setIfAbsent(viewsKey, String.valueOf(savedViews));
+            operations.opsForValue().increment(viewsKey);
+            operations.opsForSet().add(RedisKey.dirtyViews(), contentId.toString());
+        });
+        Long views = (Long) results.get(2);
+        return views == null ? savedViews : views;
+    }
+
+    public long getViews(Content content) {
+        return getViews(content.getId(), content.getViews());
+    }
+
+    public long getViews(Long contentId, long savedViews) {
+        String views = redisDao.getValues(RedisKey.views(contentId));
+        return views == null ? savedViews : Long.parseLong(views);
+    }
+
+    // MGET 한 번으로 여러 게시물의 조회수 조회 - Redis 에 없으면 DB 값 사용
+    public Map<Long, Long> getViewsMap(List<Content> contents) {
+        Map<Long, Long> viewsMap = new HashMap<>();
+        if (contents.isEmpty()) {
+            return viewsMap;
+        }
+
+        List<String> viewsList = redisDao.multiGetValues(
+                contents.stream().map(content -> RedisKey.views(content.getId())).toList()
+        );
+        for (int i = 0; i < contents.size(); i++) {
+            Content content = contents.get(i);
+            String views = viewsList.get(i);
+            viewsMap.put(content.getId(), views == null ? content.getViews() : Long.parseLong(views));
+        }
+        return viewsMap;
+    }
+
+    // 조회수가 변경된 게시물만 모아 content.views 에 배치 반영 - 여러 인스턴스 중 락을 잡은 한 곳만 실행
+    @Scheduled(fixedDelayString = "${content.views.flush-delay-ms:60000}")
+    public void flushViews() {
+        String lockKey = RedisKey.dirtyViews() + ":lock";
+        if (!redisDao.setValuesIfAbsent(lockKey, "locked", FLUSH_LOCK_TTL)) {
+            return;
+        }
+        try {
+            flushDirtyViews();
+        } finally {
+            redisDao.deleteValues(lockKey);
+        }
+    }
+
+    private void flushDirtyViews() {
+        String flushingKey = RedisKey.dirtyViews() + ":flushing";
+
+        // 이전 반영이 실패해 남아 있는 목록이 없을 때만 새 목록을 가져온다
+        if (!redisDao.hasKey(flushingKey) && !redisDao.renameKeyIfExists(RedisKey.dirtyViews(), flushingKey)) {
+            return;
+        }
+
+        List<Long> contentIdList = redisDao.getValuesSet(flushingKey).stream().map(Long::valueOf).toList();
+        List<String> viewsList = redisDao.multiGetValues(contentIdList.stream().map(RedisKey::views).toList());
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (int i = 0; i < contentIdList.size(); i++) {
+            if (viewsList.get(i) != null) {
+                batchArgs.add(new Object[]{Long.parseLong(viewsList.get(i)), contentIdList.get(i)});
+            }
+        }
+
+        // rewriteBatchedStatements=true (application.yml) 로 배치 단위로 한 번에 전송
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < batchArgs.size(); from += FLUSH_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs.subList(from, Math.min(from + FLUSH_BATCH_SIZE, batchArgs.size())));
+            }
+        });
+        redisDao.deleteValues(flushingKey);
+
+        log.info("[조회수 반영] 반영 게시물 수 : {}", batchArgs.size());
+    }
+}
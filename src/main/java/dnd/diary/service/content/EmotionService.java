@@ -1,10 +1,10 @@
 package dnd.diary.service.content;
 
+import dnd.diary.config.Jwt.SecurityUtil;
 import dnd.diary.domain.content.Content;
 import dnd.diary.domain.content.Emotion;
 import dnd.diary.domain.group.Notification;
 import dnd.diary.domain.group.NotificationType;
-import dnd.diary.domain.user.User;
 import dnd.diary.dto.content.EmotionDto;
 import dnd.diary.enumeration.Result;
 import dnd.diary.exception.CustomException;
@@ -15,7 +15,6 @@ import dnd.diary.repository.content.EmotionRepository;
 import dnd.diary.response.CustomResponseEntity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,28 +34,28 @@ public class EmotionService {
     private final NotificationRepository notificationRepository;
 
     @Transactional
-    @CacheEvict(value = "Contents", key = "#contentId", cacheManager = "testCacheManager")
     public CustomResponseEntity<EmotionDto.AddEmotionDto> saveEmotion(
             UserDetails userDetails, Long contentId, EmotionDto.AddEmotionDto request
     ) {
         validateAddEmotion(request,contentId);
 
-        User user = getUser(userDetails);
-        Emotion existsEmotionUser = emotionRepository.findByContentIdAndUserId(contentId, user.getId());
+        // 유저는 연관관계 설정에만 필요하므로 조회하지 않고 ID 로 참조
+        Long userId = getUserId(userDetails);
+        Emotion existsEmotionUser = emotionRepository.findByContentIdAndUserId(contentId, userId);
 
         if (existsEmotionUser == null) {
             // 감정 표현 등록
             Emotion emotion = Emotion.builder()
                 .emotionStatus(request.getEmotionStatus())
                 .content(getContent(contentId))
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .emotionYn(true)
                 .build();
             emotionRepository.save(emotion);
 
             // 자신을 제외한 게시물 생성자에게 알림 생성
             Content content = getContent(contentId);
-            if (!user.getId().equals(content.getUser().getId())) {
+            if (!userId.equals(content.getUser().getId())) {
                 Notification notification = Notification.toContentEmotionEntity(
                         content, emotion, content.getUser(), NotificationType.CONTENT_EMOTION);
                 notificationRepository.save(notification);
@@ -87,11 +86,12 @@ public class EmotionService {
     }
 
     // method
-    private User getUser(UserDetails userDetails) {
-        return userRepository.findOneWithAuthoritiesByEmail(userDetails.getUsername())
-                .orElseThrow(
-                        () -> new CustomException(Result.FAIL)
-                );
+    // 토큰의 유저 ID - 유저 ID 가 없는 이전 토큰만 이메일로 조회
+    private Long getUserId(UserDetails userDetails) {
+        return SecurityUtil.getUserId(userDetails)
+                .orElseGet(() -> userRepository.findOneWithAuthoritiesByEmail(userDetails.getUsername())
+                        .orElseThrow(() -> new CustomException(Result.FAIL))
+                        .getId());
     }
 
     private Content getContent(Long contentId) {
@@ -2,6 +2,7 @@ package dnd.diary.service.group;
 
 import static dnd.diary.enumeration.Result.*;
 
+import dnd.diary.config.FullTextQuery;
 import dnd.diary.domain.group.Group;
 import dnd.diary.domain.group.GroupImage;
 import dnd.diary.domain.group.GroupStar;
@@ -12,9 +13,9 @@ import dnd.diary.domain.group.NotificationType;
 import dnd.diary.domain.user.User;
 import dnd.diary.domain.user.UserJoinGroup;
 import dnd.diary.dto.group.GroupInviteRequest;
-import dnd.diary.dto.userDto.UserDto;
 import dnd.diary.exception.CustomException;
 import dnd.diary.repository.group.GroupImageRepository;
+import dnd.diary.repository.group.GroupListItem;
 import dnd.diary.repository.group.GroupRepository;
 import dnd.diary.repository.group.GroupStarRepository;
 import dnd.diary.repository.group.InviteRepository;
@@ -26,14 +27,18 @@ import dnd.diary.service.user.UserService;
 import dnd.diary.service.s3.S3Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -53,6 +58,8 @@ public class GroupService {
 	private final NotificationService notificationService;
 
 	private final int MAX_GROUP_MEMBER_COUNT = 50;
+	private final int MAX_GROUP_PAGE_SIZE = 50;
+	private final int GROUP_SEARCH_PAGE_SIZE = 20;
 
 	@Transactional
 	public GroupCreateResponse createGroup(MultipartFile multipartFile, String groupName, String groupNote) {
@@ -98,10 +105,10 @@ public class GroupService {
 
 	@Transactional
 	public GroupUpdateResponse updateGroup(MultipartFile multipartFile, Long groupId, String groupName, String groupNote) {
-		User user = findUser();
+		Long userId = userService.getCurrentUserId();
 		Group group = findGroup(groupId);
 		// 그룹 호스트 유저만 수정 가능
-		if (!group.getGroupCreateUser().getId().equals(user.getId())) {
+		if (!group.getGroupCreateUser().getId().equals(userId)) {
 			throw new CustomException(FAIL_UPDATE_GROUP);
 		}
 
@@ -124,7 +131,7 @@ public class GroupService {
 			.groupName(group.getGroupName())
 			.groupNote(group.getGroupNote())
 			.groupImageUrl(group.getGroupImageUrl())
-			.groupCreateUserId(user.getId())
+			.groupCreateUserId(userId)
             .groupCreatedAt(group.getCreatedAt())
             .groupModifiedAt(group.getModifiedAt())
             .recentUpdatedAt(group.getRecentUpdatedAt())
@@ -135,10 +142,10 @@ public class GroupService {
 
 	@Transactional
 	public void deleteGroup(Long groupId) {
-		User user = findUser();
+		Long userId = userService.getCurrentUserId();
 		Group group = findGroup(groupId);
 		// 방장만 삭제 가능
-		if (!group.getGroupCreateUser().getId().equals(user.getId())) {
+		if (!group.getGroupCreateUser().getId().equals(userId)) {
 			throw new CustomException(FAIL_DELETE_GROUP);
 		}
 
@@ -154,12 +161,12 @@ public class GroupService {
 
 	@Transactional
 	public GroupStarResponse starGroup(Long groupId) {
-		User user = findUser();
+		Long userId = userService.getCurrentUserId();
 		Group group = findGroup(groupId);
-		GroupStar groupStar = groupStarRepository.findByGroupIdAndUserId(groupId, user.getId());
+		GroupStar groupStar = groupStarRepository.findByGroupIdAndUserId(groupId, userId);
 
 		if (groupStar == null) {
-			GroupStar newGroupStar = GroupStar.toEntity(group, user);
+			GroupStar newGroupStar = GroupStar.toEntity(group, userRepository.getReferenceById(userId));
 			groupStarRepository.save(newGroupStar);
 		} else {
 			if (groupStar.getGroupStarStatus() == GroupStarStatus.ADD) {
@@ -169,9 +176,9 @@ public class GroupService {
 			}
 		}
 
-		GroupStar newGroupStar = groupStarRepository.findByGroupIdAndUserId(groupId, user.getId());
+		GroupStar newGroupStar = groupStarRepository.findByGroupIdAndUserId(groupId, userId);
 		return GroupStarResponse.builder()
-			.userId(user.getId())
+			.userId(userId)
 			.groupId(group.getId())
 			.groupStarYn(newGroupStar.getGroupStarStatus())
 			.build();
@@ -181,50 +188,22 @@ public class GroupService {
 	public GroupListResponse getGroupList() {
 		User user = findUser();
 
-		List<UserJoinGroup> userJoinGroupList = user.getUserJoinGroups();
-		if (userJoinGroupList.size() == 0) {
+		// 사용자가 가입한 그룹 목록 조회
+		List<Group> groupList = groupRepository.findJoinedGroupList(user.getId());
+		if (groupList.size() == 0) {
 			// 가입한 그룹이 없는 경우
 			return GroupListResponse.builder()
 				.existGroup(false)
 				.build();
 		}
-		// 사용자가 가입한 그룹 목록 조회
-		List<Group> groupList = new ArrayList<>();
-		userJoinGroupList.forEach(
-			userJoinGroup -> {
-				if (!userJoinGroup.getGroup().isDeletedYn()) {
-					groupList.add(userJoinGroup.getGroup());
-				}
-			}
-		);
 
 		GroupListResponse response = new GroupListResponse();
 		response.setExistGroup(true);
 
+		Set<Long> starGroupIdSet = groupStarRepository.findStarGroupIdSet(user.getId());
 		List<GroupListResponse.GroupInfo> groupInfoList = new ArrayList<>();
 		for (Group group : groupList) {
-			if (group.isDeletedYn()) {
-				continue;
-			}
-			boolean isStarGroup = false;
-			for (GroupStar groupStar : group.getGroupStars()) {
-				if (groupStar.getGroupStarStatus() == GroupStarStatus.ADD && user.getId().equals(groupStar.getUser().getId())) {
-					isStarGroup = true;
-					break;
-				}
-			}
-			GroupListResponse.GroupInfo groupInfo = GroupListResponse.GroupInfo.builder()
-				.groupId(group.getId())
-				.groupName(group.getGroupName())
-				.groupNote(group.getGroupNote())
-				.groupImageUrl(group.getGroupImageUrl())
-				.groupCreatedAt(group.getCreatedAt())
-				.recentUpdatedAt(group.getRecentUpdatedAt())
-				.memberCount(group.getUserJoinGroups().size())
-				.isStarGroup(isStarGroup)
-				.build();
-
-			groupInfoList.add(groupInfo);
+			groupInfoList.add(toGroupInfo(group, starGroupIdSet.contains(group.getId())));
 		}
 
 		groupInfoList.sort(Comparator.comparing(GroupListResponse.GroupInfo::getRecentUpdatedAt).reversed());
@@ -240,6 +219,46 @@ public class GroupService {
 		return response;
 	}
 
+	// 내가 속한 그룹 목록 페이지 조회 - 이전 페이지 마지막 그룹 이후부터 size 개
+	public GroupPageResponse getGroupPage(LocalDateTime recentUpdatedAt, Long groupId, int size) {
+		Long userId = userService.getCurrentUserId();
+		int pageSize = Math.min(Math.max(size, 1), MAX_GROUP_PAGE_SIZE);
+
+		// 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+		Pageable pageable = PageRequest.of(0, pageSize + 1);
+		List<GroupListItem> groupListItemList = recentUpdatedAt == null || groupId == null
+				? groupRepository.findJoinedGroupPage(userId, pageable)
+				: groupRepository.findJoinedGroupPage(userId, recentUpdatedAt, groupId, pageable);
+
+		boolean hasNext = groupListItemList.size() > pageSize;
+		if (hasNext) {
+			groupListItemList = groupListItemList.subList(0, pageSize);
+		}
+
+		List<GroupListResponse.GroupInfo> groupInfoList = new ArrayList<>();
+		for (GroupListItem groupListItem : groupListItemList) {
+			groupInfoList.add(GroupListResponse.GroupInfo.builder()
+				.groupId(groupListItem.getGroupId())
+				.groupName(groupListItem.getGroupName())
+				.groupNote(groupListItem.getGroupNote())
+				.groupImageUrl(groupListItem.getGroupImageUrl())
+				.groupCreatedAt(groupListItem.getGroupCreatedAt())
+				.recentUpdatedAt(groupListItem.getRecentUpdatedAt())
+				.memberCount(groupListItem.getMemberCount() != null
+					? groupListItem.getMemberCount() : getMemberCount(groupListItem.getGroupId()))
+				.isStarGroup(groupListItem.getStarCount() > 0)
+				.build());
+		}
+
+		GroupListItem lastGroupListItem = groupListItemList.isEmpty() ? null : groupListItemList.get(groupListItemList.size() - 1);
+		return GroupPageResponse.builder()
+			.groupInfoList(groupInfoList)
+			.hasNext(hasNext)
+			.nextRecentUpdatedAt(lastGroupListItem != null ? lastGroupListItem.getRecentUpdatedAt() : null)
+			.nextGroupId(lastGroupListItem != null ? lastGroupListItem.getGroupId() : null)
+			.build();
+	}
+
 	// 내가 속한 그룹 목록 Simple 조회
 	public List<GroupSimpleResponse> getGroupSimpleList() {
 		User user = findUser();
@@ -274,7 +293,7 @@ public class GroupService {
 						.groupId(group.getId())
 						.groupName(group.getGroupName())
 						.groupImageUrl(group.getGroupImageUrl())
-						.memberCount(group.getUserJoinGroups().size())
+						.memberCount(getMemberCount(group))
 						.build()
 				);
 			}
@@ -283,41 +302,25 @@ public class GroupService {
 		return groupListResponseList;
 	}
 
-	public GroupListResponse searchGroupList(String keyword) {
-		User user = findUser();
-		if (user.getUserJoinGroups().size() == 0) {
+	// page 를 생략하면 전체 검색 결과 조회
+	public GroupListResponse searchGroupList(String keyword, Integer page) {
+		Long userId = userService.getCurrentUserId();
+		if (!userJoinGroupRepository.existsByUserId(userId)) {
 			return GroupListResponse.builder().existGroup(false).build();
 		}
 		GroupListResponse response = new GroupListResponse();
 		response.setExistGroup(true);
 		List<GroupListResponse.GroupInfo> groupInfoList = new ArrayList<>();
-		List<Group> searchGroupList = groupRepository.findByGroupNameContainingIgnoreCaseOrGroupNoteContainingIgnoreCaseAndDeletedYn(keyword, keyword, false);
+		Pageable pageable = page == null ? Pageable.unpaged() : PageRequest.of(page - 1, GROUP_SEARCH_PAGE_SIZE);
+		List<Group> searchGroupList = FullTextQuery.isSearchable(keyword)
+				? groupRepository.searchByFullText(FullTextQuery.toBooleanQuery(keyword), pageable)
+				: groupRepository.searchByKeyword(keyword.trim(), pageable);
 
+		// 검색 결과는 관련도 순서 유지
+		Set<Long> starGroupIdSet = groupStarRepository.findStarGroupIdSet(userId);
 		for (Group group : searchGroupList) {
-			if (group.isDeletedYn()) {
-				continue;
-			}
-			boolean isStarGroup = false;
-			for (GroupStar groupStar : group.getGroupStars()) {
-				if (groupStar.getGroupStarStatus() == GroupStarStatus.ADD && user.getId().equals(groupStar.getUser().getId())) {
-					isStarGroup = true;
-					break;
-				}
-			}
-			GroupListResponse.GroupInfo groupInfo = GroupListResponse.GroupInfo.builder()
-				.groupId(group.getId())
-				.groupName(group.getGroupName())
-				.groupNote(group.getGroupNote())
-				.groupImageUrl(group.getGroupImageUrl())
-				.groupCreatedAt(group.getCreatedAt())
-				.recentUpdatedAt(group.getRecentUpdatedAt())
-				.memberCount(group.getUserJoinGroups().size())
-				.isStarGroup(isStarGroup)
-				.build();
-
-			groupInfoList.add(groupInfo);
+			groupInfoList.add(toGroupInfo(group, starGroupIdSet.contains(group.getId())));
 		}
-		groupInfoList.sort(Comparator.comparing(GroupListResponse.GroupInfo::getRecentUpdatedAt).reversed());
 		response.setGroupInfoList(groupInfoList);
 
 		return response;
@@ -327,7 +330,7 @@ public class GroupService {
 	@Transactional
 	public GroupInviteResponse inviteGroupMember(GroupInviteRequest request) {
 
-		User hostUser = findUser();
+		Long hostUserId = userService.getCurrentUserId();
 		Group inviteGroup = findGroup(request.getGroupId());
 
 		// 초대는 방장만 가능
@@ -336,7 +339,7 @@ public class GroupService {
 		// }
 
 		// 초대는 그룹 구성원 모두 가능
-		UserJoinGroup checkUserJoinGroup = userJoinGroupRepository.findUserJoinGroupByUserIdAndGroupId(hostUser.getId(), inviteGroup.getId());
+		UserJoinGroup checkUserJoinGroup = userJoinGroupRepository.findUserJoinGroupByUserIdAndGroupId(hostUserId, inviteGroup.getId());
 		if (checkUserJoinGroup == null) {
 			throw new CustomException(NOT_GROUP_MEMBER);
 		}
@@ -387,16 +390,10 @@ public class GroupService {
 
 	public GroupDetailResponse getGroupDetail(Long groupId) {
 
-		User user = findUser();
+		Long userId = userService.getCurrentUserId();
 		Group targetGroup = findGroup(groupId);
 
-		boolean isStarGroup = false;
-		for (GroupStar groupStar : targetGroup.getGroupStars()) {
-			if (groupStar.getGroupStarStatus() == GroupStarStatus.ADD && user.getId().equals(groupStar.getUser().getId())) {
-				isStarGroup = true;
-				break;
-			}
-		}
+		boolean isStarGroup = groupStarRepository.existsByGroupIdAndUserIdAndGroupStarStatus(targetGroup.getId(), userId, GroupStarStatus.ADD);
 
 		User hostUser = targetGroup.getGroupCreateUser();
 
@@ -422,7 +419,7 @@ public class GroupService {
 			.groupName(targetGroup.getGroupName())
 			.groupNote(targetGroup.getGroupNote())
 			.groupImageUrl(targetGroup.getGroupImageUrl())
-			.isHostUser(Objects.equals(user.getId(), hostUser.getId()))
+			.isHostUser(Objects.equals(userId, hostUser.getId()))
 			.hostUserInfo(new GroupDetailResponse.HostUserInfo(hostUser.getId(), hostUser.getNickName(), hostUser.getProfileImageUrl()))
 			.groupCreatedAt(targetGroup.getCreatedAt())
 			.groupModifiedAt(targetGroup.getModifiedAt())
@@ -433,9 +430,35 @@ public class GroupService {
 			.build();
 	}
 
+	private GroupListResponse.GroupInfo toGroupInfo(Group group, boolean isStarGroup) {
+		return GroupListResponse.GroupInfo.builder()
+			.groupId(group.getId())
+			.groupName(group.getGroupName())
+			.groupNote(group.getGroupNote())
+			.groupImageUrl(group.getGroupImageUrl())
+			.groupCreatedAt(group.getCreatedAt())
+			.recentUpdatedAt(group.getRecentUpdatedAt())
+			.memberCount(getMemberCount(group))
+			.isStarGroup(isStarGroup)
+			.build();
+	}
+
+	// 구성원 수가 아직 없는 그룹은 한 번 계산해서 저장
+	private int getMemberCount(Group group) {
+		if (group.getMemberCount() != null) {
+			return group.getMemberCount();
+		}
+		return getMemberCount(group.getId());
+	}
+
+	private int getMemberCount(Long groupId) {
+		groupRepository.initMemberCount(groupId);
+		Integer memberCount = groupRepository.findMemberCount(groupId);
+		return memberCount != null ? memberCount : 0;
+	}
+
 	private User findUser() {
-		UserDto.InfoDto userInfo = userService.findMyListUser();
-		return userRepository.findById(userInfo.getId()).orElseThrow(() -> new CustomException(NOT_FOUND_USER));
+		return userRepository.findById(userService.getCurrentUserId()).orElseThrow(() -> new CustomException(NOT_FOUND_USER));
 	}
 
 	private Group findGroup(Long groupId) {
@@ -8,10 +8,10 @@ import dnd.diary.domain.content.Content;
 import dnd.diary.domain.group.Notification;
 import dnd.diary.domain.group.NotificationType;
 import dnd.diary.domain.mission.Mission;
-import dnd.diary.domain.mission.UserAssignMission;
 import dnd.diary.dto.content.ContentDto;
 import dnd.diary.repository.content.ContentRepository;
 import dnd.diary.repository.group.UserJoinGroupRepository;
+import dnd.diary.repository.mission.UserAssignMissionBulkRepository;
 import dnd.diary.repository.mission.UserAssignMissionRepository;
 import dnd.diary.response.notification.InviteNotificationResponse;
 import dnd.diary.service.content.ContentService;
@@ -22,7 +22,6 @@ import org.springframework.stereotype.Service;
 import dnd.diary.domain.group.Group;
 import dnd.diary.domain.user.User;
 import dnd.diary.domain.user.UserJoinGroup;
-import dnd.diary.dto.userDto.UserDto;
 import dnd.diary.enumeration.Result;
 import dnd.diary.exception.CustomException;
 import dnd.diary.repository.group.GroupRepository;
@@ -43,6 +42,7 @@ public class InviteService {
 	private final UserRepository userRepository;
 	private final UserJoinGroupRepository userJoinGroupRepository;
 	private final UserAssignMissionRepository userAssignMissionRepository;
+	private final UserAssignMissionBulkRepository userAssignMissionBulkRepository;
 	private final ContentRepository contentRepository;
 
 	private final UserService userService;
@@ -54,18 +54,16 @@ public class InviteService {
 		User user = findUser();
 		Group invitedGroup = findGroup(groupId);
 
-		checkAlreadyExist(user, invitedGroup);
+		checkAlreadyExist(user.getId(), invitedGroup);
 
 		UserJoinGroup userJoinGroup = UserJoinGroup.toEntity(user, invitedGroup);
 		userJoinGroupRepository.save(userJoinGroup);
+		groupRepository.increaseMemberCount(invitedGroup.getId(), 1);
 
 		// 이미 그룹에 존재하는 미션 할당 처리
-		for (Mission mission : invitedGroup.getMissions()) {
-			UserAssignMission addUserAssignMission = UserAssignMission.toEntity(user, mission);
-			userAssignMissionRepository.save(addUserAssignMission);
-			log.info("그룹 가입 수락으로 추가될 미션 ID : {}", mission.getId());
-			log.info("그룹 가입 수락으로 추가될 할당된 addUserAssignMission ID : {}", addUserAssignMission.getId());
-		}
+		List<Long> assignMissionIdList = invitedGroup.getMissions().stream().map(Mission::getId).toList();
+		userAssignMissionBulkRepository.assignMissionsToUser(user.getId(), assignMissionIdList);
+		log.info("그룹 가입 수락으로 추가될 미션 ID : {}", assignMissionIdList);
 
 		Notification notification = findNotification(notificationId);
 		notification.updateReadNotification();
@@ -101,10 +99,10 @@ public class InviteService {
 	// 초대 거절
 	@Transactional
 	public InviteNotificationResponse.InviteNotificationInfo rejectInvite(Long groupId, Long notificationId) {
-		User user = findUser();
+		Long userId = userService.getCurrentUserId();
 		Group invitedGroup = findGroup(groupId);
 
-		checkAlreadyExist(user, invitedGroup);
+		checkAlreadyExist(userId, invitedGroup);
 
 		Notification notification = findNotification(notificationId);
 		notification.updateReadNotification();
@@ -127,10 +125,10 @@ public class InviteService {
 		return notificationInfo;
 	}
 
-	private void checkAlreadyExist(User user, Group group) {
+	private void checkAlreadyExist(Long userId, Group group) {
 		List<UserJoinGroup> userJoinGroupList = group.getUserJoinGroups();
 		for (UserJoinGroup userJoinGroup : userJoinGroupList) {
-			if (user.getId().equals(userJoinGroup.getUser().getId())) {
+			if (userId.equals(userJoinGroup.getUser().getId())) {
 				throw new CustomException(ALREADY_EXIST_IN_GROUP);
 			}
 		}
@@ -141,8 +139,7 @@ public class InviteService {
 	}
 
 	private User findUser() {
-		UserDto.InfoDto userInfo = userService.findMyListUser();
-		return userRepository.findById(userInfo.getId()).orElseThrow(() -> new CustomException(NOT_FOUND_USER));
+		return userRepository.findById(userService.getCurrentUserId()).orElseThrow(() -> new CustomException(NOT_FOUND_USER));
 	}
 
 	private Notification findNotification(Long notificationId) {
@@ -10,7 +10,6 @@ import dnd.diary.domain.group.Group;
 import dnd.diary.domain.group.Notification;
 import dnd.diary.domain.group.NotificationType;
 import dnd.diary.domain.user.User;
-import dnd.diary.dto.userDto.UserDto;
 import dnd.diary.exception.CustomException;
 import dnd.diary.repository.group.NotificationRepository;
 import dnd.diary.repository.user.UserRepository;
@@ -269,7 +268,6 @@ public class NotificationService {
 	}
 
 	private User findUser() {
-		UserDto.InfoDto userInfo = userService.findMyListUser();
-		return userRepository.findById(userInfo.getId()).orElseThrow(() -> new CustomException(NOT_FOUND_USER));
+		return userRepository.findById(userService.getCurrentUserId()).orElseThrow(() -> new CustomException(NOT_FOUND_USER));
 	}
 }
\ No newline at end of file
@@ -0,0 +1,166 @@
+package dnd.diary.service.mission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dnd.diary.domain.mission.Mission;
+import dnd.diary.domain.mission.MissionStatus;
+import dnd.diary.repository.mission.MissionRepository;
+import dnd.diary.response.mission.MissionResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+// 그룹별 [시작 전/진행 중] 미션 목록 - 종료일 순으로 정렬해 두고 생성/삭제/상태 변경 시 해당 그룹만 갱신
+// 다른 서버의 생성/삭제는 만료 시간이 지나면 다시 로딩해 반영
+@Component
+@RequiredArgsConstructor
+public class GroupMissionCache {
+
+    private static final long UNDATED_MISSION_D_DAY = 365L;   // 기간 없는 미션의 D-day
+
+    private final MissionRepository missionRepository;
+
+    private final Cache<Long, GroupMissions> cache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    // 유저별 달성 현황을 제외한 미션 응답은 그룹 구성원 간 공유 - 응답 객체는 수정하지 않고 복사해서 사용
+    public record GroupMission(Long missionId, LocalDateTime missionEndDate, MissionStatus missionStatus, MissionResponse missionResponse) {
+    }
+
+    public GroupMissions getGroupMissions(Long groupId, Function<Mission, MissionResponse> toMissionResponse) {
+        return cache.get(groupId, id -> GroupMissions.of(
+                missionRepository.findReadyAndActiveMissionListInGroup(id).stream()
+                        .map(mission -> toGroupMission(mission, toMissionResponse.apply(mission)))
+                        .toList()
+        ));
+    }
+
+    // 미션 생성 - 트랜잭션 커밋 후 반영
+    public void addMission(Mission mission, MissionResponse missionResponse) {
+        if (mission.getMissionStatus() != MissionStatus.READY && mission.getMissionStatus() != MissionStatus.ACTIVE) {
+            return;
+        }
+        Long groupId = mission.getGroup().getId();
+        GroupMission groupMission = toGroupMission(mission, missionResponse);
+        afterCommit(() -> cache.asMap().computeIfPresent(groupId, (id, groupMissions) -> groupMissions.put(groupMission)));
+    }
+
+    public void removeMission(Long groupId, Long missionId) {
+        afterCommit(() -> cache.asMap().computeIfPresent(groupId, (id, groupMissions) -> groupMissions.remove(missionId)));
+    }
+
+    // 시작 전 -> 진행 중 상태 변경은 순서 유지, 종료 시 목록에서 제외
+    public void updateMissionStatus(Long groupId, Long missionId, MissionStatus missionStatus) {
+        if (missionStatus == MissionStatus.FINISH) {
+            removeMission(groupId, missionId);
+            return;
+        }
+        cache.asMap().computeIfPresent(groupId, (id, groupMissions) -> groupMissions.updateStatus(missionId, missionStatus));
+    }
+
+    private GroupMission toGroupMission(Mission mission, MissionResponse missionResponse) {
+        return new GroupMission(mission.getId(), mission.getMissionEndDate(), mission.getMissionStatus(), missionResponse);
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // 불변 목록 - 기간 있는 미션은 종료일 순, 기간 없는 미션은 생성 순
+    public static class GroupMissions {
+        private static final Comparator<GroupMission> END_DATE_ORDER =
+                Comparator.comparing(GroupMission::missionEndDate).thenComparing(GroupMission::missionId);
+
+        private final List<GroupMission> datedMissions;
+        private final List<GroupMission> undatedMissions;
+
+        private GroupMissions(List<GroupMission> datedMissions, List<GroupMission> undatedMissions) {
+            this.datedMissions = datedMissions;
+            this.undatedMissions = undatedMissions;
+        }
+
+        private static GroupMissions of(List<GroupMission> groupMissions) {
+            List<GroupMission> datedMissions = new ArrayList<>();
+            List<GroupMission> undatedMissions = new ArrayList<>();
+            for (GroupMission groupMission : groupMissions) {
+                (groupMission.missionEndDate() != null ? datedMissions : undatedMissions).add(groupMission);
+            }
+            datedMissions.sort(END_DATE_ORDER);
+            undatedMissions.sort(Comparator.comparing(GroupMission::missionId));
+            return new GroupMissions(List.copyOf(datedMissions), List.copyOf(undatedMissions));
+        }
+
+        private GroupMissions put(GroupMission groupMission) {
+            List<GroupMission> groupMissions = new ArrayList<>(datedMissions);
+            groupMissions.addAll(undatedMissions);
+            groupMissions.removeIf(existing -> existing.missionId().equals(groupMission.missionId()));
+            groupMissions.add(groupMission);
+            return of(groupMissions);
+        }
+
+        private GroupMissions remove(Long missionId) {
+            return new GroupMissions(
+                    datedMissions.stream().filter(groupMission -> !groupMission.missionId().equals(missionId)).toList(),
+                    undatedMissions.stream().filter(groupMission -> !groupMission.missionId().equals(missionId)).toList()
+            );
+        }
+
+        private GroupMissions updateStatus(Long missionId, MissionStatus missionStatus) {
+            Function<GroupMission, GroupMission> update = groupMission -> groupMission.missionId().equals(missionId)
+                    ? new GroupMission(missionId, groupMission.missionEndDate(), missionStatus, groupMission.missionResponse())
+                    : groupMission;
+            return new GroupMissions(datedMissions.stream().map(update).toList(), undatedMissions.stream().map(update).toList());
+        }
+
+        // D-day 순으로 순회 - 기간 없는 미션은 D-day 365 로 취급해 필요한 만큼만 확인
+        public Iterator<GroupMission> iterator(LocalDate today) {
+            return new Iterator<>() {
+                private int datedIndex = 0;
+                private int undatedIndex = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return datedIndex < datedMissions.size() || undatedIndex < undatedMissions.size();
+                }
+
+                @Override
+                public GroupMission next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    if (undatedIndex >= undatedMissions.size()) {
+                        return datedMissions.get(datedIndex++);
+                    }
+                    if (datedIndex >= datedMissions.size()) {
+                        return undatedMissions.get(undatedIndex++);
+                    }
+                    long datedDday = ChronoUnit.DAYS.between(today, datedMissions.get(datedIndex).missionEndDate().toLocalDate());
+                    return datedDday <= UNDATED_MISSION_D_DAY ? datedMissions.get(datedIndex++) : undatedMissions.get(undatedIndex++);
+                }
+            };
+        }
+    }
+}
@@ -1,51 +1,123 @@
 package dnd.diary.service.mission;
 
-import dnd.diary.domain.mission.Mission;
+import static dnd.diary.domain.mission.DateUtil.*;
+
+import dnd.diary.config.TimingWheel;
 import dnd.diary.domain.mission.MissionStatus;
-import dnd.diary.domain.mission.UserAssignMission;
+import dnd.diary.repository.mission.MissionGroupId;
 import dnd.diary.repository.mission.MissionRepository;
-import dnd.diary.repository.mission.UserAssignMissionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import javax.transaction.Transactional;
-import java.time.LocalDate;
-import java.time.ZoneId;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+// 미션 기간 경계 시각마다 상태를 일괄 전환 - 서버 시작 시 지난 전환을 처리하고 남은 경계 시각을 타이밍 휠에 예약
+// 미션 기간은 날짜 단위라 경계 시각은 대부분 같은 자정이므로 미션이 아닌 경계 시각마다 한 번만 예약
+// 현재 시각은 미션 생성 시 상태 판단과 같은 DateUtil.missionNow() 기준
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MissionScheduler {
 
-    private final UserAssignMissionRepository userAssignMissionRepository;
     private final MissionRepository missionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final GroupMissionCache groupMissionCache;
+
+    // 1초 단위 60칸 - 1분, 1시간, 60시간 ... 단위의 상위 휠이 필요할 때 생성됨
+    private final TimingWheel timingWheel = new TimingWheel("mission-status", 1000L, 60);
+
+    // 예약된 경계 시각(epoch millis) - 같은 시각은 한 번만 예약
+    private final Set<Long> scheduledBoundaries = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        long startTime = System.currentTimeMillis();
+
+        // 서버가 내려가 있던 동안 지난 전환 일괄 처리
+        int[] counts = transitionPassedMissions();
+
+        LocalDateTime now = missionNow();
+        List<LocalDateTime> startDates = missionRepository.findUpcomingStartDates(now);
+        List<LocalDateTime> endDates = missionRepository.findUpcomingEndDates(now);
+        startDates.forEach(this::scheduleStart);
+        endDates.forEach(this::scheduleEnd);
+
+        log.info("[미션 상태 전환] 종료 전환 : {}, 진행 중 전환 : {}, 예약 경계 시각 수 : {}, 소요 시간 : {}ms",
+                counts[0], counts[1], scheduledBoundaries.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // 다른 서버에서 생성된 미션이나 예약이 누락된 미션의 전환 보정 - 미션 기간 경계(매시 정각)에 맞춰 실행
+    @Scheduled(cron = "${mission.status.sweep-cron:0 0 * * * *}", zone = MISSION_ZONE_ID)
+    public void sweep() {
+        int[] counts = transitionPassedMissions();
+        log.info("[미션 상태 전환 보정] 종료 전환 : {}, 진행 중 전환 : {}", counts[0], counts[1]);
+    }
 
-    @Scheduled(cron = "0 10 15 * * ?")   // UTC 기준으로 동작
-    @Transactional
-    public void updateMissionStatus() {
-        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-
-        // 모든 미션에 대해
-        List<Mission> missions = missionRepository.findAll();
-        for (Mission mission : missions) {
-            log.info("[배치 전 미션 상태] : {}", mission.getMissionStatus());
-            LocalDate missionStartDate = mission.getMissionStartDate().toLocalDate();
-            LocalDate missionEndDate = mission.getMissionStartDate().toLocalDate();
-
-            int compareStatus = missionStartDate.compareTo(today);
-
-            if (missionEndDate.isBefore(today)) {
-                mission.updateMissionStatus(MissionStatus.FINISH);
-            } else if (compareStatus > 0) {
-                mission.updateMissionStatus(MissionStatus.READY);
-            } else {
-                mission.updateMissionStatus(MissionStatus.ACTIVE);
-            }
-            log.info("[배치 후 미션 상태] : {}", mission.getMissionStatus());
+    // 미션 생성 시 시작/종료 경계 시각 예약 - 이미 예약된 시각이면 추가하지 않음
+    public void scheduleMission(MissionStatus missionStatus, LocalDateTime missionStartDate, LocalDateTime missionEndDate) {
+        if (missionStatus == MissionStatus.READY && missionStartDate != null) {
+            scheduleStart(missionStartDate);
+        }
+        if ((missionStatus == MissionStatus.READY || missionStatus == MissionStatus.ACTIVE) && missionEndDate != null) {
+            scheduleEnd(missionEndDate);
         }
-        missionRepository.saveAll(missions);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timingWheel.shutdown();
+    }
+
+    private void scheduleStart(LocalDateTime missionStartDate) {
+        scheduleBoundary(toEpochMilli(missionStartDate));
+    }
+
+    // 저장된 종료 시각은 한국 시간 종료일 23:59:59 - 1초 뒤인 다음 날 00:00:00 (한국 시간) 에 종료
+    private void scheduleEnd(LocalDateTime missionEndDate) {
+        scheduleBoundary(toEpochMilli(missionEndDate) + 1000L);
+    }
+
+    private void scheduleBoundary(long boundaryMs) {
+        if (scheduledBoundaries.add(boundaryMs)) {
+            timingWheel.schedule(boundaryMs, () -> {
+                scheduledBoundaries.remove(boundaryMs);
+                int[] counts = transitionPassedMissions();
+                log.info("[미션 상태 전환] 경계 시각 : {}, 종료 전환 : {}, 진행 중 전환 : {}", boundaryMs, counts[0], counts[1]);
+            });
+        }
+    }
+
+    // 전환 대상을 조회한 뒤 UPDATE 한 번씩으로 전환하고, 전환된 미션의 그룹 미션 캐시만 갱신
+    private int[] transitionPassedMissions() {
+        LocalDateTime now = missionNow();
+        Transition transition = transactionTemplate.execute(status -> {
+            List<MissionGroupId> finished = missionRepository.findToFinish(now);
+            missionRepository.updateToFinish(now);
+            List<MissionGroupId> activated = missionRepository.findReadyToActive(now);
+            missionRepository.updateReadyToActive(now);
+            return new Transition(finished, activated);
+        });
+
+        transition.finished().forEach(mission ->
+                groupMissionCache.updateMissionStatus(mission.getGroupId(), mission.getMissionId(), MissionStatus.FINISH));
+        transition.activated().forEach(mission ->
+                groupMissionCache.updateMissionStatus(mission.getGroupId(), mission.getMissionId(), MissionStatus.ACTIVE));
+        return new int[]{transition.finished().size(), transition.activated().size()};
+    }
+
+    private long toEpochMilli(LocalDateTime localDateTime) {
+        return localDateTime.atZone(MISSION_ZONE).toInstant().toEpochMilli();
+    }
+
+    private record Transition(List<MissionGroupId> finished, List<MissionGroupId> activated) {
     }
 }
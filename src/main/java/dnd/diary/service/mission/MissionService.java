@@ -1,14 +1,25 @@
 package dnd.diary.service.mission;
 
-import static dnd.diary.domain.mission.DateUtil.convertLocalDateTimeZone;
+import static dnd.diary.domain.mission.DateUtil.*;
 import static dnd.diary.domain.sticker.StickerLevel.getSticker;
 import static dnd.diary.enumeration.Result.*;
 
 import java.time.*;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import dnd.diary.config.Jwt.SecurityUtil;
+import dnd.diary.config.GeoMath;
+import dnd.diary.config.GeometryUtil;
+import dnd.diary.config.MapCluster;
 import dnd.diary.domain.mission.UserAssignMission;
 import dnd.diary.domain.sticker.StickerGroup;
 import dnd.diary.domain.user.UserJoinGroup;
@@ -18,10 +29,10 @@ import dnd.diary.enumeration.Result;
 import dnd.diary.repository.mission.StickerGroupRepository;
 import dnd.diary.response.mission.MissionCheckContentResponse;
 import dnd.diary.response.mission.MissionCheckLocationResponse;
+import dnd.diary.response.mission.MissionClusterResponse;
 import dnd.diary.service.content.ContentService;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.io.ParseException;
-import org.locationtech.jts.io.WKTReader;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,17 +42,19 @@ import dnd.diary.domain.mission.Mission;
 import dnd.diary.domain.mission.MissionStatus;
 import dnd.diary.domain.user.User;
 import dnd.diary.dto.group.MissionCreateRequest;
-import dnd.diary.dto.userDto.UserDto;
 import dnd.diary.exception.CustomException;
 import dnd.diary.repository.group.GroupRepository;
 import dnd.diary.repository.mission.MissionRepository;
+import dnd.diary.repository.group.UserJoinGroupRepository;
+import dnd.diary.repository.mission.UserAssignMissionBulkRepository;
 import dnd.diary.repository.mission.UserAssignMissionRepository;
+import dnd.diary.repository.mission.UserMissionSummary;
 import dnd.diary.repository.user.UserRepository;
 import dnd.diary.response.mission.MissionResponse;
 import dnd.diary.service.user.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.web.multipart.MultipartFile;
+import dnd.diary.service.s3.S3UploadPipeline.UploadedImage;
 
 @Service
 @RequiredArgsConstructor
@@ -57,11 +70,17 @@ public class MissionService {
 	private final UserService userService;
 	private final ContentService contentService;
 	private final StickerService stickerService;
+	private final MissionScheduler missionScheduler;
+	private final GroupMissionCache groupMissionCache;
+	private final UserAssignMissionBulkRepository userAssignMissionBulkRepository;
+	private final UserJoinGroupRepository userJoinGroupRepository;
 
 //	private final int MISSION_DISTANCE_LIMIT = 50;
 	private final int MISSION_DISTANCE_LIMIT = 200;
 	private final int LEVEL_UP_DEGREE = 3;
 	private final Long MISSION_DEFAULT_D_DAY = 365L;
+	private final int MAP_CLUSTER_THRESHOLD = 100;   // 지도 범위 내 미션이 이보다 많으면 클러스터로 조회
+	private final int GROUP_MISSION_LIMIT = 4;   // 그룹 메인 페이지에 보여줄 미션 수
 
 	// 미션 생성
 	@Transactional
@@ -72,8 +91,7 @@ public class MissionService {
 		MissionStatus missionStatus = MissionStatus.READY;
 
 		Mission mission = null;
-		String pointWKT = String.format("POINT(%s %s)", request.getLatitude(), request.getLongitude());
-		Point point = (Point) new WKTReader().read(pointWKT);
+		Point point = GeometryUtil.toPoint(request.getLatitude(), request.getLongitude());
 
 		// 미션 기간을 설정하지 않은 경우 - 항상 ACTIVE
 		if (!request.getExistPeriod()) {
@@ -81,26 +99,28 @@ public class MissionService {
 			mission = Mission.toEntity(
 					user, group, request.getMissionName(), request.getMissionNote()
 					, request.getExistPeriod()
-					, convertLocalDateTimeZone(LocalDate.now().atStartOfDay(), ZoneOffset.UTC, ZoneId.of("Asia/Seoul")), null
+					, missionStartDateTime(missionToday()), null
 					, request.getMissionLocationName(), request.getMissionLocationAddress()
 					, request.getLatitude(), request.getLongitude()
 					, request.getMissionColor(), missionStatus, point);
 
 		} else {
-			LocalDateTime today = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-			// 미션 시작일 < 오늘 -> 미션 진행중 상태
-			if (today.isAfter(convertLocalDateTimeZone(request.getMissionStartDate().atStartOfDay().minusHours(9), ZoneOffset.UTC, ZoneId.of("Asia/Seoul")))) {
+			// 상태 판단은 MissionScheduler 의 일괄 전환과 같은 기준 - 한국 시간 현재 시각과 저장할 기간 비교
+			LocalDateTime now = missionNow();
+			LocalDateTime missionStartDateTime = missionStartDateTime(request.getMissionStartDate());
+			LocalDateTime missionEndDateTime = missionEndDateTime(request.getMissionEndDate());
+			// 미션 시작일 00:00 이후 -> 미션 진행중 상태
+			if (!now.isBefore(missionStartDateTime)) {
 				missionStatus = MissionStatus.ACTIVE;
 			}
-			// 미션 종료일 < 오늘 -> 미션 종료 상태
-			if (today.isAfter(convertLocalDateTimeZone(request.getMissionEndDate().atStartOfDay().plusDays(1).minusHours(9), ZoneOffset.UTC, ZoneId.of("Asia/Seoul")))) {
+			// 미션 종료일 23:59:59 이후 -> 미션 종료 상태
+			if (now.isAfter(missionEndDateTime)) {
 				missionStatus = MissionStatus.FINISH;
 			}
-			// 서버 기준 시간 + 9 -> 00:00 / 23:59 로
 			mission = Mission.toEntity(user, group, request.getMissionName(), request.getMissionNote()
 					, request.getExistPeriod()
-					, convertLocalDateTimeZone(request.getMissionStartDate().atStartOfDay(), ZoneOffset.UTC, ZoneId.of("Asia/Seoul"))
-					, convertLocalDateTimeZone(request.getMissionEndDate().atTime(23, 59, 59), ZoneOffset.UTC, ZoneId.of("Asia/Seoul"))
+					, missionStartDateTime
+					, missionEndDateTime
 					, request.getMissionLocationName(), request.getMissionLocationAddress()
 					, request.getLatitude(), request.getLongitude()
 					, request.getMissionColor(), missionStatus, point);
@@ -108,25 +128,20 @@ public class MissionService {
 		}
 		missionRepository.save(mission);
 		log.info("mission startDate : {}", mission.getMissionStartDate());
+		missionScheduler.scheduleMission(mission.getMissionStatus(), mission.getMissionStartDate(), mission.getMissionEndDate());
 
-		// 그룹에 속한 구성원 모두에게 미션 할당
-		List<UserJoinGroup> userJoinGroupList = group.getUserJoinGroups();
-		for (UserJoinGroup userJoinGroup : userJoinGroupList) {
-			User groupUser = userJoinGroup.getUser();
-			UserAssignMission userAssignMission = UserAssignMission.toEntity(groupUser, mission);
-			userAssignMissionRepository.save(userAssignMission);
-		}
+		// 그룹에 속한 구성원 모두에게 미션 할당 - 구성원 수와 관계없이 배치 INSERT 로 일괄 저장
+		List<Long> assignUserIdList = userJoinGroupRepository.findUserIdListByGroupId(group.getId());
+		userAssignMissionBulkRepository.assignMissionToUsers(mission.getId(), assignUserIdList);
+		groupMissionCache.addMission(mission, toMissionResponse(mission));
 
 		Long missionDday;
 		if (!request.getExistPeriod()) {
 			missionDday = MISSION_DEFAULT_D_DAY;
 		} else {
-			Period diff = Period.between(LocalDate.now(), request.getMissionEndDate());
-			missionDday = Long.valueOf(diff.getDays());
+			missionDday = getMissionDday(mission.getMissionEndDate());
 		}
 
-		UserAssignMission userAssignMission = userAssignMissionRepository.findByUserIdAndMissionId(user.getId(), mission.getId());
-
 		return MissionResponse.builder()
 			.missionId(mission.getId())
 			.missionName(mission.getMissionName())
@@ -154,7 +169,15 @@ public class MissionService {
 			.missionDday(missionDday)
 			.missionColor(mission.getMissionColor())
 
-			.userAssignMissionInfo(getUserAssignMissionInfo(user, mission, userAssignMission))
+			// 방금 할당된 미션이므로 다시 조회하지 않고 초기 상태로 응답
+			.userAssignMissionInfo(MissionResponse.UserAssignMissionInfo.builder()
+				.userId(user.getId())
+				.userNickname(user.getNickName())
+				.missionId(mission.getId())
+				.locationCheck(false)
+				.contentCheck(false)
+				.isComplete(false)
+				.build())
 
 			.build();
 	}
@@ -162,13 +185,13 @@ public class MissionService {
 	// 미션 삭제
 	@Transactional
 	public void deleteMission(Long missionId) {
-		User user = findUser();
+		Long userId = userService.getCurrentUserId();
 		Mission mission = missionRepository.findMissionByIdAndDeletedYn(missionId, false);
 		if (mission == null) {
 			new CustomException(NOT_FOUND_MISSION);
 		};
 
-		if (!user.getId().equals(mission.getMissionCreateUser().getId())) {
+		if (!userId.equals(mission.getMissionCreateUser().getId())) {
 			throw new CustomException(FAIL_DELETE_MISSION);
 		}
 
@@ -178,37 +201,28 @@ public class MissionService {
 
 		// 미션 삭제 처리
 		mission.deleteMissionByColumn();
+		groupMissionCache.removeMission(mission.getGroup().getId(), mission.getId());
 	}
 	
 	// 미션 위치 인증
 	@Transactional
 	public MissionCheckLocationResponse checkMissionLocation(MissionCheckLocationRequest request) {
 
-		// 유저가 가진 미션이 맞는지 확인
 		User user = findUser();
-		List<UserAssignMission> userAssignMissionList = user.getUserAssignMissions();
-		List<Long> userAssignMissionIdList = new ArrayList<>();
-		List<Long> userAssignMissionGroupIdList = new ArrayList<>();
-		userAssignMissionList.forEach(
-				userAssignMission -> {
-					userAssignMissionIdList.add(userAssignMission.getMission().getId());
-					userAssignMissionGroupIdList.add(userAssignMission.getMission().getGroup().getId());
-				}
-		);
-		// 해당 그룹의 미션이 맞는지 확인
-		if (!userAssignMissionGroupIdList.contains(request.getGroupId())) {
+		Mission targetMission = missionRepository.findMissionByIdAndDeletedYn(request.getMissionId(), false);
+		if (targetMission == null) {
+			throw new CustomException(NOT_FOUND_MISSION);
+		}
+		// 해당 그룹의 미션이 맞는지 확인 - 유저의 미션 목록을 로딩하지 않고 조회한 미션으로 확인
+		if (!targetMission.getGroup().getId().equals(request.getGroupId())) {
 			throw new CustomException(INVALID_GROUP_MISSION);
 		}
 		// 유저가 가진 미션이 맞는지 확인
-		if (!userAssignMissionIdList.contains(request.getMissionId())) {
+		UserAssignMission checkUserAssignMission = userAssignMissionRepository.findByUserIdAndMissionId(user.getId(), targetMission.getId());
+		if (checkUserAssignMission == null) {
 			throw new CustomException(INVALID_USER_MISSION);
 		}
 
-		Mission targetMission = missionRepository.findMissionByIdAndDeletedYn(request.getMissionId(), false);
-		if (targetMission == null) {
-			throw new CustomException(NOT_FOUND_MISSION);
-		}
-
 		// 미션 진행 기간인지 확인
 		if (targetMission.getMissionStatus() != MissionStatus.ACTIVE) {
 			throw new CustomException(INVALID_MISSION_PERIOD);
@@ -216,21 +230,13 @@ public class MissionService {
 
 		// 미션 위치 기준 현재 자신의 위치가 반경 50m 이내에 있는지 체크
 		boolean checkLocationMissionFlag = false;
-		Double checkDistance = distance(request.getCurrLatitude(), request.getCurrLongitude()
+		Double checkDistance = GeoMath.haversine(request.getCurrLatitude(), request.getCurrLongitude()
 				, targetMission.getLatitude(), targetMission.getLongitude());
 
-		UserAssignMission checkUserAssignMission = null;
-		for (UserAssignMission userAssignMission : targetMission.getUserAssignMissions()) {
-			if (user.getId().equals(userAssignMission.getUser().getId())) {
-				checkUserAssignMission = userAssignMission;
-
-				if (checkDistance.intValue() <= MISSION_DISTANCE_LIMIT) {
-					checkLocationMissionFlag = true;
-					checkUserAssignMission.completeLocationCheck();
-					user.updateSubLevel();
-				}
-				break;
-			}
+		if (checkDistance.intValue() <= MISSION_DISTANCE_LIMIT) {
+			checkLocationMissionFlag = true;
+			checkUserAssignMission.completeLocationCheck();
+			user.updateSubLevel();
 		}
 
 		return MissionCheckLocationResponse.builder()
@@ -242,30 +248,9 @@ public class MissionService {
 				.build();
 	}
 
-	private static double distance(double lat1, double lon1, double lat2, double lon2){
-		double theta = lon1 - lon2;
-		double dist = Math.sin(deg2rad(lat1))* Math.sin(deg2rad(lat2)) + Math.cos(deg2rad(lat1))*Math.cos(deg2rad(lat2))*Math.cos(deg2rad(theta));
-
-		dist = Math.acos(dist);
-		dist = rad2deg(dist);
-
-		dist = dist * 60 * 1.1515 * 1609.344;
-
-		return dist;  // 단위 m
-	}
-
-	// 10진수를 radian 으로 변환
-	private static double deg2rad(double deg){
-		return (deg * Math.PI / 180.0);
-	}
-	// radian 을 10진수로 변환
-	private static double rad2deg(double rad){
-		return (rad * 180 / Math.PI);
-	}
-
 	// 미션 게시물 인증
 	@Transactional
-	public MissionCheckContentResponse checkMissionContent(UserDetails userDetails, List<MultipartFile> multipartFiles, Long missionId, String content) throws ParseException {
+	public MissionCheckContentResponse checkMissionContent(UserDetails userDetails, List<UploadedImage> uploadedImages, Long missionId, String content) throws ParseException {
 
 		User user = getUser(userDetails);
 		Mission targetMission = missionRepository.findMissionByIdAndDeletedYn(missionId, false);
@@ -289,7 +274,7 @@ public class MissionService {
 		}
 
 		contentService.createContent(
-				userDetails, multipartFiles, targetMission.getGroup().getId(), content,
+				userDetails, uploadedImages, targetMission.getGroup().getId(), content,
 				targetMission.getLatitude(), targetMission.getLongitude(), targetMission.getMissionLocationName()
 		);
 
@@ -332,7 +317,8 @@ public class MissionService {
 	}
 
 	private User getUser(UserDetails userDetails) {
-		User user = userRepository.findOneWithAuthoritiesByEmail(userDetails.getUsername())
+		User user = SecurityUtil.getUserId(userDetails).flatMap(userRepository::findById)
+				.or(() -> userRepository.findOneWithAuthoritiesByEmail(userDetails.getUsername()))
 				.orElseThrow(
 						() -> new CustomException(NOT_FOUND_USER)
 				);
@@ -342,41 +328,19 @@ public class MissionService {
 	// 미션 상태별 목록 조회 (0 : 전체, 1 : 시작 전, 2 : 진행중, 3 : 종료)
 	public List<MissionResponse> getMissionList(int missionStatus) {
 
-		User user = findUser();
 		MissionStatus findMissionStatus = MissionStatus.getName(missionStatus);
-		List<UserAssignMission> userAssignMissionList = user.getUserAssignMissions();
-		List<MissionResponse> missionResponseList = new ArrayList<>();
-
-		for (UserAssignMission userAssignMission : userAssignMissionList) {
-			Mission mission = userAssignMission.getMission();
-
-			if (userAssignMission.getIsComplete()) continue;
-
-			if (mission.isDeletedYn()) continue;
-
-			if (MissionStatus.ALL == findMissionStatus) {
-				MissionResponse missionResponse = toMissionResponse(mission);
-
-				MissionResponse.UserAssignMissionInfo userAssignMissionInfo = getUserAssignMissionInfo(user, mission, userAssignMission);
-				missionResponse.setUserAssignMissionInfo(userAssignMissionInfo);
+		if (MissionStatus.ALL == findMissionStatus) {
+			return getMissionList(List.of(MissionStatus.READY, MissionStatus.ACTIVE, MissionStatus.FINISH));
+		}
+		return getMissionList(List.of(findMissionStatus));
+	}
 
-				missionResponseList.add(missionResponse);
-			} else {
-				// 1 : 시작 전, 2 : 진행중 인 미션 중, 이미 기간이 끝났지만 배치 처리로 미션 상태 변경이 정상 동작하지 않은 경우
-				if (findMissionStatus == mission.getMissionStatus()) {
-					if ((MissionStatus.READY == mission.getMissionStatus() || MissionStatus.ACTIVE == mission.getMissionStatus())
-						&& mission.getMissionEndDate() != null
-						&& LocalDateTime.now(ZoneId.of("Asia/Seoul")).isAfter(mission.getMissionEndDate())) {
-						continue;
-					}
-					MissionResponse missionResponse = toMissionResponse(mission);
-
-					MissionResponse.UserAssignMissionInfo userAssignMissionInfo = getUserAssignMissionInfo(user, mission, userAssignMission);
-					missionResponse.setUserAssignMissionInfo(userAssignMissionInfo);
-
-					missionResponseList.add(missionResponse);
-				}
-			}
+	// 완료하지 않은 할당 미션 목록 - 미션 수와 관계없이 쿼리 한 번으로 조회
+	private List<MissionResponse> getMissionList(List<MissionStatus> missionStatuses) {
+		// 유저 닉네임도 목록 쿼리에서 함께 조회 - 유저를 따로 조회하지 않음
+		List<MissionResponse> missionResponseList = new ArrayList<>();
+		for (UserMissionSummary userMissionSummary : userAssignMissionRepository.findIncompleteMissionSummaryList(userService.getCurrentUserId(), missionStatuses)) {
+			missionResponseList.add(toMissionResponse(userMissionSummary));
 		}
 		missionResponseList.sort(Comparator.comparing(MissionResponse::getMissionDday));
 		return missionResponseList;
@@ -399,40 +363,53 @@ public class MissionService {
 		User user = findUser();
 		Group group = findGroup(Long.parseLong(String.valueOf(groupId)));
 
+		// 종료일 순으로 정렬된 그룹 미션을 앞에서부터 확인 - 달성 현황은 확인할 미션만큼 한 번에 조회
+		Iterator<GroupMissionCache.GroupMission> groupMissionIterator = groupMissionCache
+				.getGroupMissions(group.getId(), this::toMissionResponse)
+				.iterator(missionToday());
+
 		List<MissionResponse> missionResponseList = new ArrayList<>();
+		while (missionResponseList.size() < GROUP_MISSION_LIMIT && groupMissionIterator.hasNext()) {
+			List<GroupMissionCache.GroupMission> groupMissionList = new ArrayList<>();
+			while (groupMissionList.size() < GROUP_MISSION_LIMIT && groupMissionIterator.hasNext()) {
+				groupMissionList.add(groupMissionIterator.next());
+			}
 
-		List<Mission> missionListInGroup = group.getMissions();
-		for (Mission mission : missionListInGroup) {
-			if (mission.getMissionStatus() == MissionStatus.READY || mission.getMissionStatus() == MissionStatus.ACTIVE) {
-				MissionResponse missionResponse = toMissionResponse(mission);
+			Map<Long, UserAssignMission> userAssignMissionMap = new HashMap<>();
+			userAssignMissionRepository.findByUserIdAndMissionIdIn(
+					user.getId(), groupMissionList.stream().map(GroupMissionCache.GroupMission::missionId).toList()
+			).forEach(userAssignMission -> userAssignMissionMap.put(userAssignMission.getMission().getId(), userAssignMission));
 
-				UserAssignMission userAssignMission = userAssignMissionRepository.findByUserIdAndMissionId(user.getId(), mission.getId());
+			for (GroupMissionCache.GroupMission groupMission : groupMissionList) {
+				UserAssignMission userAssignMission = userAssignMissionMap.get(groupMission.missionId());
 				if (userAssignMission == null) {
 					throw new CustomException(INVALID_USER_MISSION);
 				}
-				if (!userAssignMission.getIsComplete()) {   // 사용자가 완료한 미션은 제외
-					MissionResponse.UserAssignMissionInfo userAssignMissionInfo = getUserAssignMissionInfo(user, mission, userAssignMission);
-					missionResponse.setUserAssignMissionInfo(userAssignMissionInfo);
-
-					missionResponseList.add(missionResponse);
+				if (userAssignMission.getIsComplete() || missionResponseList.size() >= GROUP_MISSION_LIMIT) {   // 사용자가 완료한 미션은 제외
+					continue;
 				}
+				missionResponseList.add(groupMission.missionResponse().toBuilder()
+						.missionStatus(groupMission.missionStatus())
+						.missionDday(getMissionDday(groupMission.missionEndDate()))
+						.userAssignMissionInfo(MissionResponse.UserAssignMissionInfo.builder()
+								.userId(user.getId())
+								.userNickname(user.getNickName())
+								.missionId(groupMission.missionId())
+								.locationCheck(userAssignMission.getLocationCheck())
+								.contentCheck(userAssignMission.getContentCheck())
+								.isComplete(userAssignMission.getIsComplete())
+								.build())
+						.build());
 			}
 		}
-
-		missionResponseList.sort(Comparator.comparing(MissionResponse::getMissionDday));
-		List<MissionResponse> maxFourMissionResponseList = new ArrayList<>();
-		for (int i = 0; i < 4; i++) {
-			if (i < missionResponseList.size()) {
-				maxFourMissionResponseList.add(missionResponseList.get(i));
-			}
-		}
-		return maxFourMissionResponseList;
+		return missionResponseList;
 	}
 
 	// 시작 전인 미션 + 진행 중인 미션 전체
 	public List<MissionResponse> getReadyAndActiveMissionList() {
-		List<MissionResponse> missionResponseList = getMissionList(MissionStatus.READY.getCode());
-		missionResponseList.addAll(getMissionList(MissionStatus.ACTIVE.getCode()));
+		// 시작 전 미션 뒤에 진행 중 미션 순서 유지
+		List<MissionResponse> missionResponseList = getMissionList(List.of(MissionStatus.READY, MissionStatus.ACTIVE));
+		missionResponseList.sort(Comparator.comparing(MissionResponse::getMissionStatus));
 		return missionResponseList;
 	}
 
@@ -468,10 +445,8 @@ public class MissionService {
 			.groupImageUrl(mission.getGroup().getGroupImageUrl())
 
 			.existPeriod(mission.getExistPeriod())
-			.missionStartDate(
-					mission.getMissionStartDate() != null ? String.valueOf(mission.getMissionStartDate()).substring(0, 10).replace("-", ".") : String.valueOf(mission.getMissionStartDate())
-			)
-			.missionEndDate(mission.getMissionEndDate() != null ? String.valueOf(mission.getMissionEndDate()).substring(0, 10).replace("-", ".") : "ing")
+			.missionStartDate(toMissionStartDate(mission.getMissionStartDate()))
+			.missionEndDate(toMissionEndDate(mission.getMissionEndDate()))
 
 			.missionStatus(mission.getMissionStatus())
 			.missionLocationName(mission.getMissionLocationName())
@@ -479,44 +454,147 @@ public class MissionService {
 			.latitude(mission.getLatitude())
 			.longitude(mission.getLongitude())
 
-			.missionDday(
-					mission.getMissionEndDate() != null ? (long) Period.between(LocalDate.now(ZoneId.of("Asia/Seoul")), mission.getMissionEndDate().toLocalDate()).getDays() : MISSION_DEFAULT_D_DAY
-			)
+			.missionDday(getMissionDday(mission.getMissionEndDate()))
 			.missionColor(mission.getMissionColor())
 			.build();
 	}
 
+	private MissionResponse toMissionResponse(UserMissionSummary userMissionSummary) {
+		return MissionResponse.builder()
+			.missionId(userMissionSummary.getMissionId())
+			.missionName(userMissionSummary.getMissionName())
+			.missionNote(userMissionSummary.getMissionNote())
+
+			.createUserId(userMissionSummary.getCreateUserId())
+			.createUserName(userMissionSummary.getCreateUserName())
+			.createUserProfileImageUrl(userMissionSummary.getCreateUserProfileImageUrl())
+
+			.groupId(userMissionSummary.getGroupId())
+			.groupName(userMissionSummary.getGroupName())
+			.groupImageUrl(userMissionSummary.getGroupImageUrl())
+
+			.existPeriod(userMissionSummary.getExistPeriod())
+			.missionStartDate(toMissionStartDate(userMissionSummary.getMissionStartDate()))
+			.missionEndDate(toMissionEndDate(userMissionSummary.getMissionEndDate()))
+
+			.missionStatus(userMissionSummary.getMissionStatus())
+			.missionLocationName(userMissionSummary.getMissionLocationName())
+			.missionLocationAddress(userMissionSummary.getMissionLocationAddress())
+			.latitude(userMissionSummary.getLatitude())
+			.longitude(userMissionSummary.getLongitude())
+
+			.missionDday(getMissionDday(userMissionSummary.getMissionEndDate()))
+			.missionColor(userMissionSummary.getMissionColor())
+
+			.userAssignMissionInfo(MissionResponse.UserAssignMissionInfo.builder()
+				.userId(userMissionSummary.getUserId())
+				.userNickname(userMissionSummary.getUserNickname())
+				.missionId(userMissionSummary.getMissionId())
+				.locationCheck(userMissionSummary.getLocationCheck())
+				.contentCheck(userMissionSummary.getContentCheck())
+				.isComplete(userMissionSummary.getIsComplete())
+				.build())
+			.build();
+	}
+
+	private String toMissionStartDate(LocalDateTime missionStartDate) {
+		return missionStartDate != null ? String.valueOf(missionStartDate).substring(0, 10).replace("-", ".") : String.valueOf(missionStartDate);
+	}
+
+	private String toMissionEndDate(LocalDateTime missionEndDate) {
+		return missionEndDate != null ? String.valueOf(missionEndDate).substring(0, 10).replace("-", ".") : "ing";
+	}
+
+	private Long getMissionDday(LocalDateTime missionEndDate) {
+		// Period.getDays() 는 월 단위를 뺀 나머지 일수이므로 전체 일수로 계산
+		return missionEndDate != null ? ChronoUnit.DAYS.between(missionToday(), missionEndDate.toLocalDate()) : MISSION_DEFAULT_D_DAY;
+	}
+
 	// 유저에게 할당된 미션 중, 지도 범위 내에 존재하는 미션 목록 조회
 	public List<MissionResponse> getMissionListByMap(MissionListByMapRequest missionListByMapRequest) {
-
-		User user = findUser();
-		List<Mission> userMissionList = new ArrayList<>();
-		user.getUserAssignMissions().forEach(
-				userAssignMission -> {
-					if (!userAssignMission.getIsComplete()) {   // 이미 완료한 미션은 지도 모아보기에서 제외
-						userMissionList.add(userAssignMission.getMission());
-					}
-				}
-		);
 		List<MissionResponse> missionResponseList = new ArrayList<>();
+		for (Mission mission : findMissionListByMap(missionListByMapRequest)) {
+			missionResponseList.add(toMissionResponse(mission));
+		}
+		missionResponseList.sort(Comparator.comparing(MissionResponse::getMissionDday));
+		return missionResponseList;
+	}
+
+	// 지도 범위 내 미션이 많으면 확대 수준에 맞춰 묶은 클러스터로 조회
+	public MissionClusterResponse getMissionClusterByMap(MissionListByMapRequest missionListByMapRequest) {
+		List<Mission> missionList = findMissionListByMap(missionListByMapRequest);
+
+		if (missionList.size() <= MAP_CLUSTER_THRESHOLD) {
+			List<MissionResponse> missionResponseList = new ArrayList<>();
+			for (Mission mission : missionList) {
+				missionResponseList.add(toMissionResponse(mission));
+			}
+			missionResponseList.sort(Comparator.comparing(MissionResponse::getMissionDday));
+			return MissionClusterResponse.builder()
+					.clustered(false)
+					.missions(missionResponseList)
+					.clusters(new ArrayList<>())
+					.build();
+		}
+
+		List<MissionClusterResponse.ClusterInfo> clusterInfoList = new ArrayList<>();
+		for (MapCluster<Mission> cluster : MapCluster.cluster(
+				missionList, Mission::getLatitude, Mission::getLongitude, missionListByMapRequest.getZoom())) {
+			// 종료일이 가장 가까운 미션을 대표로 - 기간이 없는 미션은 마지막
+			Mission representative = cluster.getItems().stream()
+					.min(Comparator.comparing(Mission::getMissionEndDate, Comparator.nullsLast(Comparator.naturalOrder())))
+					.orElseThrow();
+			clusterInfoList.add(
+					MissionClusterResponse.ClusterInfo.builder()
+							.latitude(cluster.getLatitude())
+							.longitude(cluster.getLongitude())
+							.counts((long) cluster.getCount())
+							.missionId(representative.getId())
+							.missionColor(representative.getMissionColor())
+							.groupImageUrl(representative.getGroup().getGroupImageUrl())
+							.build()
+			);
+		}
+		return MissionClusterResponse.builder()
+				.clustered(true)
+				.missions(new ArrayList<>())
+				.clusters(clusterInfoList)
+				.build();
+	}
+
+	// 유저에게 할당된 미완료 미션 중 지도 범위 내에 존재하는 진행 전/진행 중 미션
+	private List<Mission> findMissionListByMap(MissionListByMapRequest missionListByMapRequest) {
+		List<Mission> missionListWithInMap = new ArrayList<>();
 		MissionListByMapRequest request = missionListByMapRequest.setStartXY();
 
 		List<Mission> userMissionListWithInMap = missionRepository.findWithinMap(
+				GeometryUtil.toBoundingBox(request.getStartLatitude(), request.getStartLongitude(), request.getEndLatitude(), request.getEndLongitude()),
 				request.getStartLatitude(), request.getEndLatitude(), request.getStartLongitude(), request.getEndLongitude()
 		);
+		if (userMissionListWithInMap.isEmpty()) {
+			return missionListWithInMap;
+		}
+
+		// 지도 범위 내 미션 중 유저에게 할당된 미완료 미션 ID - 유저 엔티티 대신 할당 테이블만 조회
+		Set<Long> userMissionIdList = new HashSet<>();
+		List<Long> missionIdListWithInMap = userMissionListWithInMap.stream().map(Mission::getId).collect(Collectors.toList());
+		for (UserAssignMission userAssignMission : userAssignMissionRepository.findByUserIdAndMissionIdIn(userService.getCurrentUserId(), missionIdListWithInMap)) {
+			if (!userAssignMission.getIsComplete()) {   // 이미 완료한 미션은 지도 모아보기에서 제외
+				userMissionIdList.add(userAssignMission.getMission().getId());
+			}
+		}
 
 		for (Mission mission : userMissionListWithInMap) {
 			if (mission.isDeletedYn()) continue;
 
-			if (!userMissionList.contains(mission)) {   // 유저에게 할당된 미션이 아닌 경우
+			if (!userMissionIdList.contains(mission.getId())) {   // 유저에게 할당된 미션이 아닌 경우
 				continue;
 			}
 			if (mission.getMissionStatus() == MissionStatus.ACTIVE || mission.getMissionStatus() == MissionStatus.READY) {
-				missionResponseList.add(toMissionResponse(mission));
+				missionListWithInMap.add(mission);
 			}
 		}
-		missionResponseList.sort(Comparator.comparing(MissionResponse::getMissionDday));
-		return missionResponseList;
+		return missionListWithInMap;
 	}
 
 	// 완료한 미션 목록 조회
@@ -540,8 +618,7 @@ public class MissionService {
 	}
 
 	private User findUser() {
-		UserDto.InfoDto userInfo = userService.findMyListUser();
-		return userRepository.findById(userInfo.getId()).orElseThrow(() -> new CustomException(NOT_FOUND_USER));
+		return userRepository.findById(userService.getCurrentUserId()).orElseThrow(() -> new CustomException(NOT_FOUND_USER));
 	}
 
 	private Group findGroup(Long groupId) {
@@ -4,7 +4,6 @@ import dnd.diary.domain.sticker.Sticker;
 import dnd.diary.domain.sticker.StickerGroup;
 import dnd.diary.domain.sticker.UserStickerGroup;
 import dnd.diary.domain.user.User;
-import dnd.diary.dto.userDto.UserDto;
 import dnd.diary.exception.CustomException;
 import dnd.diary.repository.mission.StickerGroupRepository;
 import dnd.diary.repository.mission.StickerRepository;
@@ -121,9 +120,9 @@ public class StickerService {
 
     // 유저가 보유한 스티커 그룹 별 전체 스티커 조회
     public StickerResponse getMyStickerListByGroup(Long stickerGroupId) {
-        User user = findUser();
+        Long userId = userService.getCurrentUserId();
 
-        UserStickerGroup userStickerGroup = userStickerGroupRepository.findByUserIdAndStickerGroupId(user.getId(), stickerGroupId);
+        UserStickerGroup userStickerGroup = userStickerGroupRepository.findByUserIdAndStickerGroupId(userId, stickerGroupId);
         if (userStickerGroup == null) {
             throw new CustomException(HAVE_NOT_STICKER);
         }
@@ -185,7 +184,6 @@ public class StickerService {
     }
 
     private User findUser() {
-        UserDto.InfoDto userInfo = userService.findMyListUser();
-        return userRepository.findById(userInfo.getId()).orElseThrow(() -> new CustomException(NOT_FOUND_USER));
+        return userRepository.findById(userService.getCurrentUserId()).orElseThrow(() -> new CustomException(NOT_FOUND_USER));
     }
 }
\ No newline at end of file
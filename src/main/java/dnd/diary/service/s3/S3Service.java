@@ -4,7 +4,6 @@ import static dnd.diary.enumeration.Result.*;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -31,29 +30,13 @@ public class S3Service {
 	private String bucket;
 
 	private final AmazonS3 amazonS3;
+	private final S3UploadPipeline s3UploadPipeline;
 
+	// 여러 장은 업로드 파이프라인에서 동시에 전송
 	public List<String> uploadImageList(List<MultipartFile> multipartFile) {
-
-		List<String> fileUrlList = new ArrayList<>();
-
-		multipartFile.forEach(file -> {
-			String fileName = createFileName(file.getOriginalFilename());
-			ObjectMetadata objectMetadata = new ObjectMetadata();
-			objectMetadata.setContentLength(file.getSize());
-			objectMetadata.setContentType(file.getContentType());
-
-			try (InputStream inputStream = file.getInputStream()) {
-				amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-					.withCannedAcl(CannedAccessControlList.PublicRead));
-				String fileUrl = amazonS3.getUrl(bucket, fileName).toString();
-				fileUrlList.add(fileUrl);
-			} catch (IOException e) {
-				throw new CustomException(FAIL_IMAGE_UPLOAD);
-			}
-
-		});
-
-		return fileUrlList;
+		return s3UploadPipeline.upload(multipartFile).stream()
+			.map(S3UploadPipeline.UploadedImage::fileUrl)
+			.toList();
 	}
 
 	public String createFileName(String fileName) {
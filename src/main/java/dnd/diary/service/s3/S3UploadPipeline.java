@@ -0,0 +1,250 @@
+package dnd.diary.service.s3;
+
+import static dnd.diary.enumeration.Result.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.amazonaws.services.s3.transfer.Upload;
+
+import dnd.diary.config.ImageResizer;
+import dnd.diary.exception.CustomException;
+import lombok.extern.slf4j.Slf4j;
+
+// 이미지 업로드는 DB 트랜잭션 밖에서 동시에 진행하고, 전부 끝난 뒤에 DB 작업 수행
+@Slf4j
+@Component
+public class S3UploadPipeline {
+
+	private static final long MB = 1024L * 1024L;
+
+	private final AmazonS3 amazonS3;
+	private final TransferManager transferManager;
+	private final String bucket;
+
+	public S3UploadPipeline(
+		AmazonS3 amazonS3,
+		@Value("${cloud.aws.s3.bucket}") String bucket,
+		@Value("${cloud.aws.s3.upload.threads:8}") int threads,
+		@Value("${cloud.aws.s3.upload.multipart-threshold-mb:5}") long multipartThresholdMb,
+		@Value("${cloud.aws.s3.upload.part-size-mb:5}") long partSizeMb
+	) {
+		this.amazonS3 = amazonS3;
+		this.bucket = bucket;
+
+		// 스레드 수가 고정된 풀에서만 전송 - 요청이 몰려도 S3 연결 수는 늘어나지 않음
+		AtomicInteger threadNumber = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads,
+			runnable -> new Thread(runnable, "s3-upload-" + threadNumber.incrementAndGet()));
+
+		// 큰 파일은 멀티파트 업로드로 나누어 전송 - 업로드 최대 크기가 10MB 이므로 기본값은 S3 최소 파트 크기(5MB)
+		this.transferManager = TransferManagerBuilder.standard()
+			.withS3Client(amazonS3)
+			.withExecutorFactory(() -> executor)
+			.withMultipartUploadThreshold(multipartThresholdMb * MB)
+			.withMinimumUploadPartSize(partSizeMb * MB)
+			.build();
+	}
+
+	// 리사이즈본까지 업로드 완료 후 작업 실행, 작업이 실패하면 올라간 파일 삭제
+	public <T, E extends Exception> T uploadAndThen(List<MultipartFile> multipartFile, UploadTask<T, E> task) throws E {
+		List<UploadedImage> uploadedImages = upload(multipartFile, true);
+		try {
+			return task.run(uploadedImages);
+		} catch (Exception e) {
+			delete(uploadedImages.stream().map(UploadedImage::fileName).toList());
+			throw e;
+		}
+	}
+
+	// 원본만 업로드
+	public List<UploadedImage> upload(List<MultipartFile> multipartFile) {
+		return upload(multipartFile, false);
+	}
+
+	// 모든 파일을 동시에 전송하고 전부 끝나면 반환, 하나라도 실패하면 이미 올라간 파일까지 삭제
+	private List<UploadedImage> upload(List<MultipartFile> multipartFile, boolean withRenditions) {
+		if (multipartFile == null || multipartFile.isEmpty()) {
+			return List.of();
+		}
+
+		// 전송 시작 전에 파일 이름부터 검증
+		List<String> fileNames = multipartFile.stream()
+			.map(file -> createFileName(file.getOriginalFilename()))
+			.toList();
+
+		List<Upload> uploads = new ArrayList<>();
+		try {
+			List<UploadedImage> uploadedImages = new ArrayList<>();
+			for (int i = 0; i < multipartFile.size(); i++) {
+				MultipartFile file = multipartFile.get(i);
+				String fileName = fileNames.get(i);
+				byte[] bytes = file.getBytes();
+				uploads.add(startUpload(fileName, bytes, file.getContentType()));
+
+				// 원본이 전송되는 동안 리사이즈본 생성
+				Optional<BufferedImage> image = withRenditions ? ImageResizer.read(bytes) : Optional.empty();
+				if (image.isEmpty()) {
+					uploadedImages.add(new UploadedImage(fileName, getUrl(fileName), null, null));
+					continue;
+				}
+				for (Rendition rendition : Rendition.values()) {
+					byte[] resized = ImageResizer.toJpeg(image.get(), rendition.width);
+					uploads.add(startUpload(rendition.fileName(fileName), resized, MediaType.IMAGE_JPEG_VALUE));
+				}
+				uploadedImages.add(new UploadedImage(
+					fileName,
+					getUrl(fileName),
+					getUrl(Rendition.THUMBNAIL.fileName(fileName)),
+					getUrl(Rendition.LARGE.fileName(fileName))
+				));
+			}
+
+			for (Upload upload : uploads) {
+				upload.waitForUploadResult();
+			}
+			return uploadedImages;
+		} catch (IOException | AmazonClientException e) {
+			log.warn("이미지 업로드 실패 - {}", e.getMessage());
+			abort(uploads, fileNames);
+			throw new CustomException(FAIL_IMAGE_UPLOAD);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			abort(uploads, fileNames);
+			throw new CustomException(FAIL_IMAGE_UPLOAD);
+		} catch (RuntimeException e) {
+			// 리사이즈본 생성 실패 등 - 이미 시작한 전송을 남기지 않음
+			log.warn("이미지 업로드 실패 - {}", e.getMessage());
+			abort(uploads, fileNames);
+			throw e;
+		}
+	}
+
+	// 원본 이름으로 리사이즈본도 함께 삭제 - 없는 키는 무시됨
+	public void delete(Collection<String> fileNames) {
+		if (fileNames == null || fileNames.isEmpty()) {
+			return;
+		}
+		try {
+			String[] keys = fileNames.stream()
+				.flatMap(fileName -> Stream.concat(
+					Stream.of(fileName),
+					Arrays.stream(Rendition.values()).map(rendition -> rendition.fileName(fileName))))
+				.toArray(String[]::new);
+			amazonS3.deleteObjects(new DeleteObjectsRequest(bucket)
+				.withKeys(keys)
+				.withQuiet(true));
+		} catch (AmazonClientException e) {
+			log.warn("이미지 삭제 실패 - {} : {}", fileNames, e.getMessage());
+		}
+	}
+
+	// 트랜잭션이 커밋된 경우에만 삭제 - 롤백되면 기존 이미지 유지
+	public void deleteAfterCommit(Collection<String> fileNames) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			delete(fileNames);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				delete(fileNames);
+			}
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		// S3 클라이언트는 다른 빈과 공유하므로 전송 스레드만 종료
+		transferManager.shutdownNow(false);
+	}
+
+	private void abort(List<Upload> uploads, List<String> fileNames) {
+		uploads.forEach(Upload::abort);
+		delete(fileNames);
+	}
+
+	private Upload startUpload(String fileName, byte[] bytes, String contentType) {
+		ObjectMetadata objectMetadata = new ObjectMetadata();
+		objectMetadata.setContentLength(bytes.length);
+		objectMetadata.setContentType(contentType);
+		return transferManager.upload(new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(bytes), objectMetadata)
+			.withCannedAcl(CannedAccessControlList.PublicRead));
+	}
+
+	private String getUrl(String fileName) {
+		return amazonS3.getUrl(bucket, fileName).toString();
+	}
+
+	private String createFileName(String fileName) {
+		return UUID.randomUUID().toString().concat(getFileExtension(fileName));
+	}
+
+	private String getFileExtension(String fileName) {
+		try {
+			return fileName.substring(fileName.lastIndexOf("."));
+		} catch (StringIndexOutOfBoundsException | NullPointerException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 형식의 파일 (" + fileName + ") 입니다.");
+		}
+	}
+
+	@FunctionalInterface
+	public interface UploadTask<T, E extends Exception> {
+		T run(List<UploadedImage> uploadedImages) throws E;
+	}
+
+	// 리사이즈본 URL 은 이미지로 읽을 수 없는 파일이면 null
+	public record UploadedImage(String fileName, String fileUrl, String thumbnailUrl, String largeUrl) {
+	}
+
+	// 목록용 썸네일, 상세용 큰 이미지 - 모두 JPEG
+	public enum Rendition {
+		THUMBNAIL("thumb", 240),
+		LARGE("large", 1080);
+
+		private final String suffix;
+		private final int width;
+
+		Rendition(String suffix, int width) {
+			this.suffix = suffix;
+			this.width = width;
+		}
+
+		// {원본 이름}_{suffix}.jpg
+		public String fileName(String originalFileName) {
+			int extensionIndex = originalFileName.lastIndexOf('.');
+			String baseName = extensionIndex < 0 ? originalFileName : originalFileName.substring(0, extensionIndex);
+			return baseName + "_" + suffix + ".jpg";
+		}
+	}
+}
@@ -6,6 +6,8 @@ import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import dnd.diary.config.Jwt.SecurityUtil;
+import dnd.diary.config.Jwt.TokenBlacklist;
 import dnd.diary.config.Jwt.TokenProvider;
 import dnd.diary.config.RedisDao;
 import dnd.diary.domain.bookmark.Bookmark;
@@ -25,6 +27,7 @@ import dnd.diary.repository.user.UserImageRepository;
 import dnd.diary.repository.user.UserRepository;
 import dnd.diary.response.CustomResponseEntity;
 import dnd.diary.response.user.UserSearchResponse;
+import dnd.diary.service.content.ContentViewCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -69,6 +72,8 @@ public class UserService {
     private final TokenProvider tokenProvider;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final RedisDao redisDao;
+    private final TokenBlacklist tokenBlacklist;
+    private final ContentViewCounter contentViewCounter;
 
     Authority authority = Authority.builder()
             .authorityName("ROLE_USER")
@@ -108,6 +113,11 @@ public class UserService {
         );
     }
 
+    // 토큰의 유저 ID 로 조회 - 유저 ID 가 없는 이전 토큰이면 이메일로 조회
+    public Long getCurrentUserId() {
+        return SecurityUtil.getCurrentUserId().orElseGet(() -> findMyListUser().getId());
+    }
+
     @Transactional
     public UserDto.InfoDto findMyListUser() {
         return UserDto.InfoDto.response(
@@ -135,15 +145,15 @@ public class UserService {
                 contentIdList, false, PageRequest.of(page - 1, 10, Sort.Direction.DESC, "createdAt")
         );
 
+        Map<Long, Long> viewsMap = contentViewCounter.getViewsMap(bookmarkPage.getContent());
+
         return bookmarkPage.map((Content content) -> UserDto.BookmarkDto.response(
                         content
                         , content.getContentImages()
                                 .stream()
                                 .map(ContentDto.ImageResponseDto::response)
                                 .toList()
-                        , Integer.parseInt(
-                                redisDao.getValues(content.getId().toString())
-                        )
+                        , viewsMap.get(content.getId()).intValue()
                 )
         );
     }
@@ -159,6 +169,8 @@ public class UserService {
                 distinctContentIdListByUserId, false, PageRequest.of(page - 1, 10, Sort.Direction.DESC, "createdAt")
         );
 
+        Map<Long, Long> viewsMap = contentViewCounter.getViewsMap(pageMyComment.getContent());
+
         return pageMyComment.map((Content content) ->
                         UserDto.myCommentListDto.response(
                                 content,
@@ -166,7 +178,7 @@ public class UserService {
                                         .stream()
                                         .map(ContentDto.ImageResponseDto::response)
                                         .toList(),
-                                Integer.parseInt(redisDao.getValues(content.getId().toString()))
+                                viewsMap.get(content.getId()).intValue()
                         )
                 );
     }
@@ -182,6 +194,8 @@ public class UserService {
                 user.getId(), false, PageRequest.of(page - 1, 10, Sort.Direction.DESC, "createdAt")
         );
 
+        Map<Long, Long> viewsMap = contentViewCounter.getViewsMap(pageMyContent.getContent());
+
         return pageMyContent.map((Content content) ->
                         UserDto.myContentListDto.response(
                                 content,
@@ -189,33 +203,19 @@ public class UserService {
                                         .stream()
                                         .map(ContentDto.ImageResponseDto::response)
                                         .toList(),
-                                Integer.parseInt(redisDao.getValues(content.getId().toString()))
+                                viewsMap.get(content.getId()).intValue()
                         )
                 );
     }
 
     @Transactional
     public void logout(UserDetails userDetails, String auth) {
-        String atk = auth.substring(7);
-        if (redisDao.getValues(userDetails.getUsername()) != null) {
-            redisDao.deleteValues(userDetails.getUsername());
-        }
-        redisDao.setValues(atk, "logout", Duration.ofMillis(
-                        tokenProvider.getExpiration(atk)
-                )
-        );
+        expireToken(userDetails, auth.substring(7));
     }
 
     @Transactional
     public void deleteUser(UserDetails userDetails, String auth) {
-        String atk = auth.substring(7);
-        if (redisDao.getValues(userDetails.getUsername()) != null) {
-            redisDao.deleteValues(userDetails.getUsername());
-        }
-        redisDao.setValues(atk, "logout", Duration.ofMillis(
-                        tokenProvider.getExpiration(atk)
-                )
-        );
+        expireToken(userDetails, auth.substring(7));
         userRepository.delete(
                 getUser(userDetails.getUsername())
         );
@@ -250,6 +250,15 @@ public class UserService {
     }
 
     // method
+    // refresh token 삭제와 access token 로그아웃 처리를 한 번의 왕복으로 실행
+    private void expireToken(UserDetails userDetails, String atk) {
+        Duration expiration = Duration.ofMillis(tokenProvider.getExpiration(atk));
+        redisDao.executePipelined(operations -> {
+            operations.delete(userDetails.getUsername());
+            tokenBlacklist.revoke(operations, atk, expiration);
+        });
+    }
+
     private User getUser(String email) {
         Optional<User> oneWithAuthoritiesByEmail = userRepository.
                 findOneWithAuthoritiesByEmail(email);
@@ -0,0 +1,19 @@
+-- 게시물 이미지 리사이즈본 URL 컬럼 추가 (기존 이미지는 NULL - 원본 URL로 응답)
+-- ddl-auto 로 컬럼이 이미 추가된 경우에는 추가하지 않음
+SET @add_thumbnail_url = (
+    SELECT IF(COUNT(*) = 0, 'ALTER TABLE content_image ADD COLUMN thumbnail_url VARCHAR(255) NULL', 'DO 0')
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'content_image' AND COLUMN_NAME = 'thumbnail_url'
+);
+PREPARE add_thumbnail_url FROM @add_thumbnail_url;
+EXECUTE add_thumbnail_url;
+DEALLOCATE PREPARE add_thumbnail_url;
+
+SET @add_large_url = (
+    SELECT IF(COUNT(*) = 0, 'ALTER TABLE content_image ADD COLUMN large_url VARCHAR(255) NULL', 'DO 0')
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'content_image' AND COLUMN_NAME = 'large_url'
+);
+PREPARE add_large_url FROM @add_large_url;
+EXECUTE add_large_url;
+DEALLOCATE PREPARE add_large_url;
@@ -0,0 +1,3 @@
+-- 그룹/게시물 검색용 FULLTEXT 인덱스 - 한글 검색을 위해 ngram 파서 사용 (ngram_token_size = 2)
+ALTER TABLE `groups` ADD FULLTEXT INDEX ft_groups_name_note (group_name, group_note) WITH PARSER ngram;
+ALTER TABLE content ADD FULLTEXT INDEX ft_content_content (content) WITH PARSER ngram;
@@ -0,0 +1,26 @@
+-- 그룹 구성원 수 컬럼 추가 및 기존 그룹 값 채우기
+-- ddl-auto 로 member_count 컬럼이 이미 추가된 경우에는 추가하지 않음
+SET @add_member_count = (
+    SELECT IF(COUNT(*) = 0, 'ALTER TABLE `groups` ADD COLUMN member_count INT NULL', 'DO 0')
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'groups' AND COLUMN_NAME = 'member_count'
+);
+PREPARE add_member_count FROM @add_member_count;
+EXECUTE add_member_count;
+DEALLOCATE PREPARE add_member_count;
+
+UPDATE `groups` g
+SET g.member_count = (
+    SELECT COUNT(*) FROM user_join_group ujg
+    WHERE ujg.group_id = g.group_id AND ujg.deleted = false
+);
+
+-- 그룹 목록 페이지 정렬용 인덱스 (게시물 최신 등록일, 그룹 ID) - 이미 있으면 생성하지 않음
+SET @add_recent_updated_at_index = (
+    SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_groups_recent_updated_at ON `groups` (recent_updated_at, group_id)', 'DO 0')
+    FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'groups' AND INDEX_NAME = 'idx_groups_recent_updated_at'
+);
+PREPARE add_recent_updated_at_index FROM @add_recent_updated_at_index;
+EXECUTE add_recent_updated_at_index;
+DEALLOCATE PREPARE add_recent_updated_at_index;
@@ -0,0 +1,19 @@
+-- 미션 상태 배치용 인덱스 - 상태별로 기간 경계를 지난 미션만 조회
+-- Mission 엔티티의 @Index 로 ddl-auto 가 이미 생성한 경우에는 생성하지 않음
+SET @add_status_start_date_index = (
+    SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_mission_status_start_date ON mission (mission_status, mission_start_date)', 'DO 0')
+    FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'mission' AND INDEX_NAME = 'idx_mission_status_start_date'
+);
+PREPARE add_status_start_date_index FROM @add_status_start_date_index;
+EXECUTE add_status_start_date_index;
+DEALLOCATE PREPARE add_status_start_date_index;
+
+SET @add_status_end_date_index = (
+    SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_mission_status_end_date ON mission (mission_status, mission_end_date)', 'DO 0')
+    FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'mission' AND INDEX_NAME = 'idx_mission_status_end_date'
+);
+PREPARE add_status_end_date_index FROM @add_status_end_date_index;
+EXECUTE add_status_end_date_index;
+DEALLOCATE PREPARE add_status_end_date_index;
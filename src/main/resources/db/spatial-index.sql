@@ -0,0 +1,36 @@
+-- 지도 조회용 SPATIAL 인덱스 적용 (MySQL 8)
+-- point 는 x = 위도, y = 경도, SRID 0 으로 저장
+-- SPATIAL 인덱스 컬럼은 NOT NULL 이어야 하므로 좌표가 없는 게시물은 POINT(-1000 -1000) 으로 채움
+
+-- 게시물
+UPDATE content
+SET point = ST_GeomFromText(CONCAT('POINT(', latitude, ' ', longitude, ')'))
+WHERE point IS NULL AND latitude IS NOT NULL AND longitude IS NOT NULL;
+
+UPDATE content
+SET point = ST_GeomFromText('POINT(-1000 -1000)')
+WHERE point IS NULL;
+
+ALTER TABLE content MODIFY point POINT NOT NULL SRID 0;
+ALTER TABLE content ADD SPATIAL INDEX idx_content_point (point);
+
+-- 미션 - ddl-auto 로 point 컬럼이 이미 추가된 경우에는 추가하지 않음
+SET @add_mission_point = (
+    SELECT IF(COUNT(*) = 0, 'ALTER TABLE mission ADD COLUMN point POINT NULL', 'DO 0')
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'mission' AND COLUMN_NAME = 'point'
+);
+PREPARE add_mission_point FROM @add_mission_point;
+EXECUTE add_mission_point;
+DEALLOCATE PREPARE add_mission_point;
+
+UPDATE mission
+SET point = ST_GeomFromText(CONCAT('POINT(', latitude, ' ', longitude, ')'))
+WHERE point IS NULL AND latitude IS NOT NULL AND longitude IS NOT NULL;
+
+UPDATE mission
+SET point = ST_GeomFromText('POINT(-1000 -1000)')
+WHERE point IS NULL;
+
+ALTER TABLE mission MODIFY point POINT NOT NULL SRID 0;
+ALTER TABLE mission ADD SPATIAL INDEX idx_mission_point (point);
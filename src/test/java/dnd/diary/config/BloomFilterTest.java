@@ -0,0 +1,50 @@
+package dnd.diary.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int EXPECTED_INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    @Test
+    void 넣은_값은_항상_포함된다() {
+        BloomFilter bloomFilter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+        String[] tokenIds = IntStream.range(0, EXPECTED_INSERTIONS).mapToObj(i -> UUID.randomUUID().toString()).toArray(String[]::new);
+
+        for (String tokenId : tokenIds) {
+            bloomFilter.put(tokenId);
+        }
+
+        for (String tokenId : tokenIds) {
+            assertThat(bloomFilter.mightContain(tokenId)).isTrue();
+        }
+    }
+
+    @Test
+    void 예상_개수만큼_넣어도_오탐률은_설정값_근처() {
+        BloomFilter bloomFilter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            bloomFilter.put("revoked-" + i);
+        }
+
+        int checkCount = 100_000;
+        long falsePositiveCount = IntStream.range(0, checkCount)
+                .filter(i -> bloomFilter.mightContain("valid-" + i))
+                .count();
+
+        assertThat((double) falsePositiveCount / checkCount).isLessThan(FALSE_POSITIVE_PROBABILITY * 1.5);
+    }
+
+    @Test
+    void 비어_있으면_아무것도_포함하지_않는다() {
+        BloomFilter bloomFilter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+
+        assertThat(bloomFilter.mightContain(UUID.randomUUID().toString())).isFalse();
+    }
+}
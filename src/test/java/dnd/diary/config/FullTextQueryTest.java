@@ -0,0 +1,35 @@
+package dnd.diary.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FullTextQueryTest {
+
+    @Test
+    void 단어마다_필수_구문_검색어로_만든다() {
+        assertThat(FullTextQuery.toBooleanQuery("  주말   등산 모임 ")).isEqualTo("+\"주말\" +\"등산\" +\"모임\"");
+    }
+
+    @Test
+    void 큰따옴표는_공백으로_바꿔_구문을_깨뜨리지_않는다() {
+        assertThat(FullTextQuery.toBooleanQuery("북한산\"백운대")).isEqualTo("+\"북한산\" +\"백운대\"");
+    }
+
+    @Test
+    void 모든_단어가_토큰_길이_이상이면_FULLTEXT_검색() {
+        assertThat(FullTextQuery.isSearchable("등산 모임")).isTrue();
+    }
+
+    @Test
+    void 토큰_길이보다_짧은_단어가_있으면_LIKE_검색() {
+        assertThat(FullTextQuery.isSearchable("산 모임")).isFalse();
+    }
+
+    @Test
+    void 빈_검색어는_FULLTEXT_검색하지_않는다() {
+        assertThat(FullTextQuery.isSearchable(null)).isFalse();
+        assertThat(FullTextQuery.isSearchable("   ")).isFalse();
+        assertThat(FullTextQuery.isSearchable("\"\"")).isFalse();
+    }
+}
@@ -0,0 +1,53 @@
+package dnd.diary.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoMathTest {
+
+    private static final double LATITUDE = 37.5666;
+    private static final double LONGITUDE = 126.9784;
+
+    @Test
+    void 위도_1도는_약_111km() {
+        assertThat(GeoMath.haversine(37.0, 127.0, 38.0, 127.0)).isCloseTo(111195.08, within(1.0));
+    }
+
+    @Test
+    void 짧은_거리에서_평면_근사는_하버사인과_거의_같다() {
+        double[] destination = GeoMath.destination(LATITUDE, LONGITUDE, 200.0, 60.0);
+
+        assertThat(GeoMath.haversine(LATITUDE, LONGITUDE, destination[0], destination[1])).isCloseTo(200.0, within(0.01));
+        assertThat(GeoMath.equirectangular(LATITUDE, LONGITUDE, destination[0], destination[1])).isCloseTo(200.0, within(0.01));
+    }
+
+    @Test
+    void 여러_좌표를_한_번에_계산한_값은_하나씩_계산한_값과_같다() {
+        double[] latitudes = {LATITUDE, 37.5700, 37.5500, 35.1796};
+        double[] longitudes = {LONGITUDE, 126.9800, 127.0000, 129.0756};
+        double[] distances = new double[latitudes.length];
+        boolean[] within = new boolean[latitudes.length];
+
+        GeoMath.haversine(LATITUDE, LONGITUDE, latitudes, longitudes, distances);
+        int count = GeoMath.withinRadius(LATITUDE, LONGITUDE, latitudes, longitudes, 500.0, within);
+
+        for (int i = 0; i < latitudes.length; i++) {
+            assertThat(distances[i]).isCloseTo(GeoMath.haversine(LATITUDE, LONGITUDE, latitudes[i], longitudes[i]), within(1e-6));
+            assertThat(within[i]).isEqualTo(distances[i] <= 500.0);
+        }
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    void 반경_범위는_모든_방향의_반경_끝_좌표를_포함한다() {
+        double[] box = GeoMath.boundingBox(LATITUDE, LONGITUDE, 200.0);
+
+        for (int bearing = 0; bearing < 360; bearing += 15) {
+            double[] point = GeoMath.destination(LATITUDE, LONGITUDE, 200.0, bearing);
+            assertThat(point[0]).isBetween(box[0] - 1e-9, box[2] + 1e-9);
+            assertThat(point[1]).isBetween(box[1] - 1e-9, box[3] + 1e-9);
+        }
+    }
+}
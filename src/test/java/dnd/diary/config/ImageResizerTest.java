@@ -0,0 +1,87 @@
+package dnd.diary.config;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageResizerTest {
+
+    @Test
+    void 가로_기준으로_비율을_유지해_줄인다() throws IOException {
+        BufferedImage image = ImageResizer.read(png(2000, 1000)).orElseThrow();
+
+        BufferedImage resized = ImageIO.read(new ByteArrayInputStream(ImageResizer.toJpeg(image, 240)));
+
+        assertThat(resized.getWidth()).isEqualTo(240);
+        assertThat(resized.getHeight()).isEqualTo(120);
+    }
+
+    @Test
+    void 원본이_더_작으면_크기를_유지한다() throws IOException {
+        BufferedImage image = ImageResizer.read(png(100, 50)).orElseThrow();
+
+        BufferedImage resized = ImageIO.read(new ByteArrayInputStream(ImageResizer.toJpeg(image, 1080)));
+
+        assertThat(resized.getWidth()).isEqualTo(100);
+        assertThat(resized.getHeight()).isEqualTo(50);
+    }
+
+    @Test
+    void 이미지가_아니면_빈_값() {
+        assertThat(ImageResizer.read("not an image".getBytes(StandardCharsets.UTF_8))).isEmpty();
+    }
+
+    @Test
+    void 잘린_이미지는_빈_값() throws IOException {
+        byte[] png = png(200, 200);
+
+        Optional<BufferedImage> image = ImageResizer.read(Arrays.copyOf(png, png.length / 2));
+
+        assertThat(image).isEmpty();
+    }
+
+    @Test
+    void 픽셀_수가_너무_크면_디코딩하지_않는다() {
+        // 헤더만 있는 100000 x 100000 PNG - 디코딩했다면 메모리 부족 또는 데이터 없음으로 실패
+        assertThat(ImageResizer.read(pngHeader(100_000, 100_000))).isEmpty();
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    // PNG 시그니처 + IHDR 청크
+    private byte[] pngHeader(int width, int height) {
+        ByteBuffer ihdr = ByteBuffer.allocate(17)
+                .put("IHDR".getBytes(StandardCharsets.US_ASCII))
+                .putInt(width)
+                .putInt(height)
+                .put((byte) 8)    // bit depth
+                .put((byte) 2)    // RGB
+                .put((byte) 0)
+                .put((byte) 0)
+                .put((byte) 0);
+        CRC32 crc = new CRC32();
+        crc.update(ihdr.array());
+
+        return ByteBuffer.allocate(8 + 4 + 17 + 4)
+                .put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'})
+                .putInt(13)
+                .put(ihdr.array())
+                .putInt((int) crc.getValue())
+                .array();
+    }
+}
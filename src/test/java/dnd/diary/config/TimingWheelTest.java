@@ -0,0 +1,64 @@
+package dnd.diary.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    // 10ms 단위 8칸 - 80ms 이후는 상위 휠(640ms), 그 이후는 한 단계 더 상위 휠에 담김
+    private final TimingWheel timingWheel = new TimingWheel("test", 10L, 8);
+
+    @AfterEach
+    void tearDown() {
+        timingWheel.shutdown();
+    }
+
+    @Test
+    void 이미_지난_시각의_작업은_바로_실행한다() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        timingWheel.schedule(System.currentTimeMillis() - 1000L, latch::countDown);
+
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void 휠_경계를_넘는_작업도_만료_시각_이후에_실행한다() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        // 첫 칸 경계, 하위 휠 안, 하위 휠 끝 경계, 상위 휠, 두 단계 상위 휠
+        long[] expirations = {now + 10L, now + 50L, now + 80L, now + 300L, now + 900L};
+        Map<Long, Long> executedAt = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(expirations.length);
+
+        for (long expiration : expirations) {
+            timingWheel.schedule(expiration, () -> {
+                executedAt.put(expiration, System.currentTimeMillis());
+                latch.countDown();
+            });
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        for (long expiration : expirations) {
+            assertThat(executedAt.get(expiration)).isGreaterThanOrEqualTo(expiration);
+        }
+    }
+
+    @Test
+    void 같은_칸의_작업을_모두_실행한다() throws InterruptedException {
+        long expiration = System.currentTimeMillis() + 200L;
+        CountDownLatch latch = new CountDownLatch(3);
+
+        timingWheel.schedule(expiration, latch::countDown);
+        timingWheel.schedule(expiration + 1L, latch::countDown);
+        timingWheel.schedule(expiration + 9L, latch::countDown);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,52 @@
+package dnd.diary.config.cache;
+
+import dnd.diary.dto.content.ContentDto;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressingRedisSerializerTest {
+
+    @ParameterizedTest
+    @EnumSource(CacheSerializer.class)
+    void 압축하지_않은_값을_그대로_복원한다(CacheSerializer cacheSerializer) {
+        RedisSerializer<Object> serializer = new CompressingRedisSerializer(cacheSerializer.create(), -1);
+
+        ContentDto.ImageResponseDto restored = (ContentDto.ImageResponseDto) serializer.deserialize(serializer.serialize(image()));
+
+        assertThat(restored.getImageUrl()).isEqualTo(image().getImageUrl());
+        assertThat(restored.getContentId()).isEqualTo(1L);
+    }
+
+    @ParameterizedTest
+    @EnumSource(CacheSerializer.class)
+    void 기준_크기_이상이면_LZ4_로_압축하고_복원한다(CacheSerializer cacheSerializer) {
+        RedisSerializer<Object> serializer = new CompressingRedisSerializer(cacheSerializer.create(), 0);
+
+        byte[] bytes = serializer.serialize(image());
+
+        assertThat(bytes[0]).isEqualTo((byte) 0x01);
+        ContentDto.ImageResponseDto restored = (ContentDto.ImageResponseDto) serializer.deserialize(bytes);
+        assertThat(restored.getImageName()).isEqualTo(image().getImageName());
+    }
+
+    @ParameterizedTest
+    @EnumSource(CacheSerializer.class)
+    void null_캐시_값을_복원한다(CacheSerializer cacheSerializer) {
+        RedisSerializer<Object> serializer = new CompressingRedisSerializer(cacheSerializer.create(), -1);
+
+        assertThat(serializer.deserialize(serializer.serialize(NullValue.INSTANCE))).isInstanceOf(NullValue.class);
+    }
+
+    private ContentDto.ImageResponseDto image() {
+        return ContentDto.ImageResponseDto.builder()
+                .id(1L)
+                .imageName("6f6b761a-8481-45b6-a6cc-9b48ff73c679.jpg")
+                .imageUrl("https://dnd-diary-image-bucket.s3.ap-northeast-2.amazonaws.com/6f6b761a-8481-45b6-a6cc-9b48ff73c679_thumb.jpg")
+                .contentId(1L)
+                .build();
+    }
+}
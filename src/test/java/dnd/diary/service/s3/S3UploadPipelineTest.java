@@ -0,0 +1,113 @@
+package dnd.diary.service.s3;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import dnd.diary.enumeration.Result;
+import dnd.diary.exception.CustomException;
+import dnd.diary.service.s3.S3UploadPipeline.UploadedImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3UploadPipelineTest {
+
+    private static final String BUCKET = "test-bucket";
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private AmazonS3 amazonS3;
+    private S3UploadPipeline s3UploadPipeline;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 메모리에 저장하는 S3
+        amazonS3 = mock(AmazonS3.class);
+        when(amazonS3.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            objects.put(request.getKey(), request.getInputStream().readAllBytes());
+            return new PutObjectResult();
+        });
+        when(amazonS3.getUrl(anyString(), anyString())).thenAnswer(invocation ->
+                new URL("https://" + invocation.getArgument(0) + ".s3.amazonaws.com/" + invocation.getArgument(1)));
+
+        s3UploadPipeline = new S3UploadPipeline(amazonS3, BUCKET, 2, 5, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3UploadPipeline.shutdown();
+    }
+
+    @Test
+    void 모든_파일을_업로드한_뒤_URL_을_반환한다() {
+        List<UploadedImage> uploadedImages = s3UploadPipeline.upload(List.of(file("a.png", "a"), file("b.png", "b")));
+
+        assertThat(uploadedImages).hasSize(2);
+        assertThat(objects).containsOnlyKeys(uploadedImages.stream().map(UploadedImage::fileName).toArray(String[]::new));
+        assertThat(uploadedImages.get(0).fileUrl()).isEqualTo("https://" + BUCKET + ".s3.amazonaws.com/" + uploadedImages.get(0).fileName());
+        assertThat(objects.get(uploadedImages.get(1).fileName())).isEqualTo("b".getBytes());
+    }
+
+    @Test
+    void 이미지로_읽을_수_없는_파일은_리사이즈본_없이_업로드한다() {
+        List<UploadedImage> uploadedImages = s3UploadPipeline.uploadAndThen(List.of(file("a.png", "not an image")), images -> images);
+
+        assertThat(uploadedImages.get(0).thumbnailUrl()).isNull();
+        assertThat(uploadedImages.get(0).largeUrl()).isNull();
+        assertThat(objects).hasSize(1);
+    }
+
+    @Test
+    void 업로드에_실패하면_올라간_파일까지_삭제한다() {
+        doThrow(new AmazonClientException("S3 연결 실패")).when(amazonS3).putObject(any(PutObjectRequest.class));
+
+        assertThatThrownBy(() -> s3UploadPipeline.upload(List.of(file("a.png", "a"), file("b.png", "b"))))
+                .isInstanceOf(CustomException.class)
+                .extracting("result").isEqualTo(Result.FAIL_IMAGE_UPLOAD);
+        verify(amazonS3).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    @Test
+    void 업로드_후_작업이_실패하면_올라간_파일을_삭제한다() {
+        IllegalStateException failure = new IllegalStateException("저장 실패");
+
+        assertThatThrownBy(() -> s3UploadPipeline.uploadAndThen(List.of(file("a.png", "a")), images -> {
+            throw failure;
+        })).isSameAs(failure);
+
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(amazonS3).deleteObjects(captor.capture());
+        assertThat(captor.getValue().getKeys()).extracting(DeleteObjectsRequest.KeyVersion::getKey)
+                .containsAll(objects.keySet());
+    }
+
+    @Test
+    void 파일이_없으면_전송하지_않는다() {
+        assertThat(s3UploadPipeline.upload(null)).isEmpty();
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    private MultipartFile file(String originalFilename, String content) {
+        return new MockMultipartFile("multipartFile", originalFilename, "image/png", content.getBytes());
+    }
+}